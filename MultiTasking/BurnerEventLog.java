@@ -0,0 +1,24 @@
+package MultiTasking;
+
+/**
+ * 요리사 스레드가 남기는 이벤트 (주문, 버너 ON/OFF)
+ * 요리사는 기록만 하고 바로 돌아간다. 화면 출력은 구현체가 따로 처리하므로 락을 잡고 출력을 기다릴 일이 없다.
+ *
+ * - RingBufferEventLog: lock-free 링 버퍼 + 출력 전용 스레드 하나가 버너 현황판을 그림
+ * - CountingEventLog  : --quiet, 개수만 센다
+ */
+interface BurnerEventLog {
+
+  void order(String cook, int remaining);
+
+  void on(String cook, int burner);
+
+  void off(String cook, int burner);
+
+  /** 요리사 스레드가 모두 끝난 뒤 호출: 남은 이벤트를 처리하고 집계를 출력 */
+  void close() throws InterruptedException;
+
+  static BurnerEventLog create(RamenOptions options) {
+    return options.quiet ? new CountingEventLog() : new RingBufferEventLog(options.burners, 1 << 16);
+  }
+}
@@ -0,0 +1,153 @@
+package MultiTasking;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 버너 풀 벤치마크: 요리사(스레드) 수와 버너 수를 늘려가며 처리량, 버너 대기 시간 비교
+ *
+ * - scan  : 기존 RamenCook 방식 (배열을 훑고 synchronized로 차지, 다 차 있으면 계속 다시 훑음)
+ * - unfair: SlotPool(fair = false)
+ * - fair  : SlotPool(fair = true)
+ *
+ * How to run (프로젝트 루트에서):
+ *   javac -encoding UTF-8 MultiTasking/*.java
+ *   java MultiTasking.BurnerPoolBenchmark [총 주문 수=20000] [조리 시간 us=100]
+ */
+public class BurnerPoolBenchmark {
+  private static final int[] COOKS = { 4, 16, 64, 256, 512 };
+  private static final int[] BURNERS = { 4, 16, 64, 256 };
+
+  interface Burners {
+    int acquire() throws InterruptedException;
+    void release(int slot);
+  }
+
+  public static void main(String[] args) throws Exception {
+    int orders = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+    long cookNanos = TimeUnit.MICROSECONDS.toNanos(args.length > 1 ? Long.parseLong(args[1]) : 100);
+
+    // JIT 워밍업
+    run("unfair", new SlotPoolBurners(new SlotPool(4, false)), 16, 4, orders / 4, cookNanos);
+
+    System.out.println("| mode | cooks | burners | orders/s | wait p50 us | wait p99 us | wait max us | utilization |");
+    System.out.println("|---|---|---|---|---|---|---|---|");
+    for (int burners : BURNERS) {
+      for (int cooks : COOKS) {
+        if (cooks < burners) {
+          continue;
+        }
+        System.out.println(run("scan", new ScanBurners(burners), cooks, burners, orders, cookNanos));
+        System.out.println(run("unfair", new SlotPoolBurners(new SlotPool(burners, false)), cooks, burners, orders, cookNanos));
+        System.out.println(run("fair", new SlotPoolBurners(new SlotPool(burners, true)), cooks, burners, orders, cookNanos));
+      }
+    }
+  }
+
+  private static String run(String mode, Burners pool, int cooks, int burners, int orders, long cookNanos)
+      throws InterruptedException {
+    AtomicInteger remaining = new AtomicInteger(orders);
+    AtomicLong busyNanos = new AtomicLong();
+    long[] waits = new long[orders];
+    AtomicInteger waitIndex = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(cooks);
+
+    for (int c = 0; c < cooks; c++) {
+      Thread cook = new Thread(() -> {
+        try {
+          start.await();
+          while (remaining.decrementAndGet() >= 0) {
+            long requested = System.nanoTime();
+            int slot = pool.acquire();
+            long acquired = System.nanoTime();
+            LockSupport.parkNanos(cookNanos); // 조리
+            long cooked = System.nanoTime();
+            pool.release(slot);
+
+            waits[waitIndex.getAndIncrement()] = acquired - requested;
+            busyNanos.addAndGet(cooked - acquired);
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } finally {
+          done.countDown();
+        }
+      });
+      cook.setDaemon(true);
+      cook.start();
+    }
+
+    long begin = System.nanoTime();
+    start.countDown();
+    done.await();
+    long elapsed = System.nanoTime() - begin;
+
+    Arrays.sort(waits);
+    return String.format("| %s | %d | %d | %.0f | %.1f | %.1f | %.1f | %.0f%% |",
+        mode, cooks, burners,
+        orders / (elapsed / 1e9),
+        micros(percentile(waits, 0.50)), micros(percentile(waits, 0.99)), micros(waits[waits.length - 1]),
+        100.0 * busyNanos.get() / ((double) burners * elapsed));
+  }
+
+  private static long percentile(long[] sorted, double p) {
+    return sorted[(int) Math.min(sorted.length - 1, Math.floor(sorted.length * p))];
+  }
+
+  private static double micros(long nanos) {
+    return nanos / 1000.0;
+  }
+
+  static final class SlotPoolBurners implements Burners {
+    private final SlotPool pool;
+
+    SlotPoolBurners(SlotPool pool) {
+      this.pool = pool;
+    }
+
+    @Override
+    public int acquire() throws InterruptedException {
+      return pool.acquire();
+    }
+
+    @Override
+    public void release(int slot) {
+      pool.release(slot);
+    }
+  }
+
+  // 기존 방식 (빈 버너를 락 없이 찾고 synchronized 안에서 다시 확인해서 차지)
+  static final class ScanBurners implements Burners {
+    private final boolean[] busy;
+
+    ScanBurners(int size) {
+      this.busy = new boolean[size];
+    }
+
+    @Override
+    public int acquire() {
+      while (true) {
+        for (int i = 0; i < busy.length; i++) {
+          if (busy[i]) continue;
+          synchronized (this) {
+            if (!busy[i]) {
+              busy[i] = true;
+              return i;
+            }
+          }
+        }
+        Thread.yield(); // 다 차 있으면 처음부터 다시 (busy-loop)
+      }
+    }
+
+    @Override
+    public synchronized void release(int slot) {
+      busy[slot] = false;
+    }
+  }
+}
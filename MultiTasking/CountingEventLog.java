@@ -0,0 +1,32 @@
+package MultiTasking;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * --quiet: 출력 없이 개수만 (LongAdder라 요리사가 많아도 경합이 거의 없음)
+ */
+class CountingEventLog implements BurnerEventLog {
+  private final LongAdder orders = new LongAdder();
+  private final LongAdder ons = new LongAdder();
+  private final LongAdder offs = new LongAdder();
+
+  @Override
+  public void order(String cook, int remaining) {
+    orders.increment();
+  }
+
+  @Override
+  public void on(String cook, int burner) {
+    ons.increment();
+  }
+
+  @Override
+  public void off(String cook, int burner) {
+    offs.increment();
+  }
+
+  @Override
+  public void close() {
+    System.out.println("events: order " + orders.sum() + ", on " + ons.sum() + ", off " + offs.sum());
+  }
+}
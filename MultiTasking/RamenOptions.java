@@ -0,0 +1,44 @@
+package MultiTasking;
+
+/**
+ * RamenProgram 실행 옵션
+ *
+ * java MultiTasking.RamenProgram <라면 개수> [--mode=threads|pool|forkjoin|virtual] [--burners=4] [--threads=4]
+ *                                 [--cook-ms=2000] [--rest-ms=1000] [--fair] [--quiet]
+ *
+ * - threads : 요리사 스레드 A, B, C, D ... 가 라면을 하나씩 가져가서 끓임 (기본, 기존 동작)
+ * - pool    : 주문 하나 = 작업 하나, 고정 크기 스레드 풀(--threads)
+ * - forkjoin: 주문 하나 = 작업 하나, work-stealing ForkJoinPool(parallelism = --threads)
+ * - virtual : 주문 하나 = virtual thread 하나 (Java 21 이상)
+ * 어떤 모드든 동시에 끓일 수 있는 라면은 버너 수(--burners)만큼이다.
+ */
+class RamenOptions {
+  String mode = "threads";
+  int orders;
+  int burners = 4;
+  int threads = 4;
+  long cookMillis = 2000;
+  long restMillis = 1000; // threads 모드: 라면 하나 끓이고 0 ~ rest-ms 쉼
+  boolean fair;
+  boolean quiet; // 버너 ON/OFF 출력 안함 (10,000개 이상 비교할 때)
+
+  static RamenOptions parse(String[] args) {
+    RamenOptions options = new RamenOptions();
+    options.orders = Integer.parseInt(args[0]);
+
+    for (int i = 1; i < args.length; i++) {
+      String arg = args[i];
+      String value = arg.contains("=") ? arg.substring(arg.indexOf('=') + 1) : "";
+
+      if (arg.startsWith("--mode=")) options.mode = value;
+      else if (arg.startsWith("--burners=")) options.burners = Integer.parseInt(value);
+      else if (arg.startsWith("--threads=")) options.threads = Integer.parseInt(value);
+      else if (arg.startsWith("--cook-ms=")) options.cookMillis = Long.parseLong(value);
+      else if (arg.startsWith("--rest-ms=")) options.restMillis = Long.parseLong(value);
+      else if (arg.equals("--fair")) options.fair = true;
+      else if (arg.equals("--quiet")) options.quiet = true;
+      else throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+    }
+    return options;
+  }
+}
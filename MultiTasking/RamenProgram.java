@@ -1,92 +1,164 @@
 package MultiTasking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  *  참고 사이트: [얄팍한 코딩사전](https://www.youtube.com/watch?v=iks_Xb9DtTM)
  * How to run:
- * 1) Open the terminal.
- * 2) Type the following command to compile the program: javac -encoding UTF-8 RamenProgram.java
- * 3) Type the following command to run the program: java RamenProgram 10
+ * 1) Open the terminal in the project root (the parent folder of MultiTasking).
+ * 2) Type the following command to compile the program: javac -encoding UTF-8 MultiTasking/*.java
+ * 3) Type the following command to run the program: java MultiTasking.RamenProgram 10
+ * 4) 모드 비교: java MultiTasking.RamenProgram 10000 --mode=virtual --cook-ms=1 --quiet (옵션은 RamenOptions 참고)
 */
 public class RamenProgram {
   
   public static void main(String[] args) {
 
     try{
-      RamenCook ramenCook = new RamenCook(Integer.parseInt(args[0]));
-      new Thread(ramenCook, "A").start();
-      new Thread(ramenCook, "B").start();
-      new Thread(ramenCook, "C").start();
-      new Thread(ramenCook, "D").start();
+      RamenOptions options = RamenOptions.parse(args);
+      RamenStats stats = new RamenStats(options.orders);
+      BurnerEventLog eventLog = BurnerEventLog.create(options);
+      RamenCook ramenCook = new RamenCook(options, stats, eventLog);
+
+      long start = System.nanoTime();
+      if (options.mode.equals("threads")) {
+        runThreads(ramenCook, options);
+      } else {
+        runOrders(ramenCook, options, newExecutor(options));
+      }
+      long elapsed = System.nanoTime() - start;
+      eventLog.close(); // 남은 출력 마무리
+      stats.print(options, elapsed);
     } catch (Exception e) {
       e.printStackTrace();
     }
   }
+
+  // 요리사 스레드 A, B, C, D ... 가 남은 라면을 하나씩 가져감
+  private static void runThreads(RamenCook ramenCook, RamenOptions options) throws InterruptedException {
+    List<Thread> cooks = new ArrayList<>();
+    for (int i = 0; i < options.threads; i++) {
+      Thread cook = new Thread(ramenCook, i < 26 ? String.valueOf((char) ('A' + i)) : "T" + (i + 1));
+      cook.start();
+      cooks.add(cook);
+    }
+    for (Thread cook : cooks) {
+      cook.join();
+    }
+  }
+
+  // 주문 하나를 작업 하나로 제출
+  private static void runOrders(RamenCook ramenCook, RamenOptions options, ExecutorService executor)
+      throws InterruptedException {
+    try {
+      for (int i = 0; i < options.orders; i++) {
+        long orderedAt = System.nanoTime();
+        executor.execute(() -> ramenCook.cookOrder(orderedAt));
+      }
+    } finally {
+      executor.shutdown();
+      executor.awaitTermination(1, TimeUnit.DAYS);
+    }
+  }
+
+  private static ExecutorService newExecutor(RamenOptions options) {
+    switch (options.mode) {
+      case "pool":
+        return Executors.newFixedThreadPool(options.threads);
+      case "forkjoin":
+        return new ForkJoinPool(options.threads); // 작업이 버너를 기다리며 블로킹되면 그만큼 워커가 놀게 된다.
+      case "virtual":
+        try {
+          // Java 17에서도 컴파일되도록 리플렉션으로 호출 (실행은 Java 21 이상)
+          return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+          throw new IllegalStateException("virtual 모드는 Java 21 이상에서 실행해야 합니다.", e);
+        }
+      default:
+        throw new IllegalArgumentException("알 수 없는 모드: " + options.mode);
+    }
+  }
 }
 
 class RamenCook implements Runnable {
-  private int ramenCount;
-  private String[] burners = {"-", "-", "-", "-"};
-
-  String[] test = new String[]{};
+  private final AtomicInteger ramenCount; // 여러 요리사가 동시에 가져가므로 원자적으로 감소
+  private final SlotPool burnerPool; // 빈 버너 찾기 + 차지하기를 한 번에 (같은 버너를 두 명이 잡지 않음)
+  private final RamenOptions options;
+  private final RamenStats stats;
+  private final BurnerEventLog eventLog; // 출력은 여기에 기록만 (락 안에서 println 하지 않음)
 
-  public RamenCook(int ramenCount) {
-    this.ramenCount = ramenCount;
+  public RamenCook(RamenOptions options, RamenStats stats, BurnerEventLog eventLog) {
+    this.ramenCount = new AtomicInteger(options.orders);
+    this.burnerPool = new SlotPool(options.burners, options.fair);
+    this.options = options;
+    this.stats = stats;
+    this.eventLog = eventLog;
   }
 
+  // threads 모드: 남은 라면이 없을 때까지 하나씩 맡아서 끓이고 잠깐 쉼
   @Override
   public void run() {
-    while ( ramenCount > 0) {
-
-      synchronized(this) {
-        ramenCount--;
-        System.out.println(
-          Thread.currentThread().getName()
-          + ": " + ramenCount + "개 남음");
-      }
-      
-      for(int i = 0; i < burners.length; i++) {
-        if(!burners[i].equals("-")) continue;
-      
-        synchronized(this) {
-          burners[i] = Thread.currentThread().getName();
-          System.out.println(
-            "                   "
-            + Thread.currentThread().getName()
-            + ": [" + (i+1) + "]번 버너 ON");
-          ShowBurners();
-        }
-
-        try{
-          Thread.sleep(2000);
-        } catch (InterruptedException e) {
-          e.printStackTrace();
-        }
-
-        synchronized(this) {
-          burners[i] = "-";
-          System.out.println(
-            "                                     "
-            + Thread.currentThread().getName()
-            + ": [" + (i+1) + "]번 버너 OFF");
-          ShowBurners();
-        }
-        break;
+    long orderedAt = System.nanoTime(); // 주문은 시작할 때 한꺼번에 들어와 있음
+    while (takeOrder()) {
+      if (!cook(orderedAt)) {
+        return;
       }
 
       try {
-        Thread.sleep(Math.round(1000 * Math.random()));
-      } catch (Exception e) {
-        e.printStackTrace();
+        Thread.sleep(Math.round(options.restMillis * Math.random()));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
       }
     }
   }
 
-  private void ShowBurners() {
-    String stringToPrint = "                                                        ";
-    
-    for(int i =0; i<burners.length; i++) {
-      stringToPrint += (" " + burners[i]);
+  // pool / forkjoin / virtual 모드: 주문 하나
+  public void cookOrder(long orderedAt) {
+    if (takeOrder()) {
+      cook(orderedAt);
     }
-    System.out.println(stringToPrint);
   }
-  
-}
\ No newline at end of file
+
+  // 1. 라면 하나 맡기 (남은 게 없으면 false)
+  private boolean takeOrder() {
+    int left = ramenCount.decrementAndGet();
+    if (left < 0) {
+      return false;
+    }
+    eventLog.order(Thread.currentThread().getName(), left);
+    return true;
+  }
+
+  // 2. 빈 버너가 생길 때까지 기다렸다가 차지 (다 차 있으면 잠들어서 대기, busy-loop X) → 끓이고 반납
+  private boolean cook(long orderedAt) {
+    long startedAt = System.nanoTime();
+    int i;
+    try {
+      i = burnerPool.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+    long acquiredAt = System.nanoTime();
+
+    try {
+      eventLog.on(Thread.currentThread().getName(), i);
+      Thread.sleep(options.cookMillis);
+      eventLog.off(Thread.currentThread().getName(), i);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } finally {
+      burnerPool.release(i); // 3. 버너 반납
+      stats.record(orderedAt, startedAt, acquiredAt, System.nanoTime());
+    }
+    return true;
+  }
+}
@@ -0,0 +1,54 @@
+package MultiTasking;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문별 대기 시간, 버너 사용 시간 집계
+ * - queue wait : 주문이 들어온 뒤 요리사(스레드)가 맡을 때까지
+ * - burner wait: 요리사가 맡은 뒤 버너를 잡을 때까지
+ */
+class RamenStats {
+  private final long[] queueWaits;
+  private final long[] burnerWaits;
+  private final AtomicInteger count = new AtomicInteger();
+  private final AtomicLong busyNanos = new AtomicLong();
+
+  RamenStats(int orders) {
+    this.queueWaits = new long[orders];
+    this.burnerWaits = new long[orders];
+  }
+
+  void record(long orderedAt, long startedAt, long acquiredAt, long releasedAt) {
+    int i = count.getAndIncrement();
+    queueWaits[i] = startedAt - orderedAt;
+    burnerWaits[i] = acquiredAt - startedAt;
+    busyNanos.addAndGet(releasedAt - acquiredAt);
+  }
+
+  void print(RamenOptions options, long elapsedNanos) {
+    int n = count.get();
+    double seconds = elapsedNanos / 1e9;
+    System.out.println("mode=" + options.mode + ", orders=" + n + ", burners=" + options.burners
+        + (options.mode.equals("virtual") ? "" : ", threads=" + options.threads) + (options.fair ? ", fair" : ""));
+    System.out.printf("elapsed %.2fs, %.1f orders/s, burner utilization %.0f%%%n",
+        seconds, n / seconds, 100.0 * busyNanos.get() / (options.burners * (double) elapsedNanos));
+    System.out.println("queue wait  " + percentiles(queueWaits, n));
+    System.out.println("burner wait " + percentiles(burnerWaits, n));
+  }
+
+  private static String percentiles(long[] values, int n) {
+    if (n == 0) {
+      return "-";
+    }
+    long[] sorted = Arrays.copyOf(values, n);
+    Arrays.sort(sorted);
+    return String.format("p50 %.2fms, p90 %.2fms, p99 %.2fms, max %.2fms",
+        at(sorted, 0.50), at(sorted, 0.90), at(sorted, 0.99), sorted[n - 1] / 1e6);
+  }
+
+  private static double at(long[] sorted, double p) {
+    return sorted[(int) Math.min(sorted.length - 1, Math.floor(sorted.length * p))] / 1e6;
+  }
+}
@@ -0,0 +1,158 @@
+package MultiTasking;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 여러 요리사(생산자) → 출력 스레드 하나(소비자) 링 버퍼 (MPSC, lock-free)
+ *
+ * 1. 생산자: tail.getAndIncrement()로 번호(seq)를 받고 slot[seq % capacity]에 값을 채운 뒤 published[...] = seq 로 공개
+ * 2. 소비자: head 번호의 slot이 공개되었으면 읽어서 현황판에 반영, head + 1
+ * 3. 버퍼가 꽉 차면(소비자가 capacity만큼 뒤처짐) 생산자는 자리가 날 때까지 잠깐씩 기다린다. (락은 잡지 않음)
+ *
+ * 현황판(burners)은 소비자 스레드만 건드리므로 동기화가 필요 없다.
+ */
+class RingBufferEventLog implements BurnerEventLog {
+  private static final byte ORDER = 0;
+  private static final byte ON = 1;
+  private static final byte OFF = 2;
+
+  private final Slot[] slots;
+  private final AtomicLongArray published;
+  private final int mask;
+  private final AtomicLong tail = new AtomicLong(); // 다음에 받을 번호 (생산자)
+  private final AtomicLong head = new AtomicLong(); // 다음에 읽을 번호 (소비자)
+  private final LongAdder fullWaits = new LongAdder();
+  private final String[] burners;
+  private final long[] counts = new long[3];
+  private final StringBuilder out = new StringBuilder();
+  private final Thread consumer;
+  private volatile boolean closed;
+
+  RingBufferEventLog(int burnerCount, int capacity) {
+    if (Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("capacity는 2의 제곱이어야 합니다: " + capacity);
+    }
+    this.slots = new Slot[capacity];
+    for (int i = 0; i < capacity; i++) {
+      slots[i] = new Slot();
+    }
+    this.published = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      published.set(i, -1); // 0번 slot이 처음부터 공개된 것으로 보이지 않도록
+    }
+    this.mask = capacity - 1;
+    this.burners = new String[burnerCount];
+    Arrays.fill(burners, "-");
+
+    this.consumer = new Thread(this::consume, "board");
+    this.consumer.setDaemon(true);
+    this.consumer.start();
+  }
+
+  @Override
+  public void order(String cook, int remaining) {
+    publish(ORDER, cook, remaining);
+  }
+
+  @Override
+  public void on(String cook, int burner) {
+    publish(ON, cook, burner);
+  }
+
+  @Override
+  public void off(String cook, int burner) {
+    publish(OFF, cook, burner);
+  }
+
+  @Override
+  public void close() throws InterruptedException {
+    closed = true;
+    consumer.join();
+    System.out.println("events: order " + counts[ORDER] + ", on " + counts[ON] + ", off " + counts[OFF]
+        + ", producer waits (buffer full) " + fullWaits.sum());
+  }
+
+  private void publish(byte type, String cook, int value) {
+    long seq = tail.getAndIncrement();
+    if (seq - head.get() >= slots.length) {
+      fullWaits.increment();
+      while (seq - head.get() >= slots.length) {
+        LockSupport.parkNanos(10_000);
+      }
+    }
+
+    int index = (int) (seq & mask);
+    Slot slot = slots[index];
+    slot.type = type;
+    slot.cook = cook;
+    slot.value = value;
+    published.set(index, seq); // 공개 (이 쓰기 이전의 slot 값이 소비자에게 보인다)
+  }
+
+  private void consume() {
+    while (true) {
+      long seq = head.get();
+      int index = (int) (seq & mask);
+
+      if (published.get(index) == seq) {
+        Slot slot = slots[index];
+        render(slot.type, slot.cook, slot.value);
+        head.lazySet(seq + 1); // slot을 다 읽은 뒤에 자리 반납
+        if (out.length() > 8192) {
+          flush();
+        }
+      } else if (closed && seq == tail.get()) {
+        flush();
+        return;
+      } else {
+        flush(); // 쌓인 출력은 쉴 때 한 번에
+        LockSupport.parkNanos(100_000);
+      }
+    }
+  }
+
+  private void render(byte type, String cook, int value) {
+    counts[type]++;
+    switch (type) {
+      case ORDER:
+        out.append(cook).append(": ").append(value).append("개 남음\n");
+        break;
+      case ON:
+        burners[value] = cook;
+        out.append("                   ").append(cook).append(": [").append(value + 1).append("]번 버너 ON\n");
+        ShowBurners();
+        break;
+      default:
+        burners[value] = "-";
+        out.append("                                     ").append(cook).append(": [").append(value + 1)
+            .append("]번 버너 OFF\n");
+        ShowBurners();
+    }
+  }
+
+  private void ShowBurners() {
+    out.append("                                                        ");
+    for (String burner : burners) {
+      out.append(' ').append(burner);
+    }
+    out.append('\n');
+  }
+
+  private void flush() {
+    if (out.length() > 0) {
+      System.out.print(out);
+      System.out.flush();
+      out.setLength(0);
+    }
+  }
+
+  private static final class Slot {
+    byte type;
+    String cook;
+    int value; // ORDER: 남은 개수, ON/OFF: 버너 번호
+  }
+}
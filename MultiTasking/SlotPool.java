@@ -0,0 +1,101 @@
+package MultiTasking;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 크기가 정해진 자원(버너, 커넥션 등)을 번호(slot)로 빌려주고 돌려받는 풀
+ *
+ * - Semaphore: 빈 자리 수만큼만 통과 → 다 차 있으면 busy-loop 없이 잠들어서 기다림
+ * - 비트맵(AtomicLongArray): 통과한 스레드가 CAS로 빈 비트 하나를 차지 → 같은 자리를 두 스레드가 잡을 수 없음
+ * - fair = true 면 먼저 기다린 스레드가 먼저 받음 (FIFO), false 면 처리량 우선 (새치기 허용)
+ *
+ * 사용법
+ *   int slot = pool.acquire();
+ *   try { ... } finally { pool.release(slot); }
+ */
+public class SlotPool {
+  private final int size;
+  private final Semaphore permits;
+  private final AtomicLongArray bitmap; // 1 = 사용 중
+  private final ThreadLocal<int[]> hint = ThreadLocal.withInitial(() -> new int[1]); // 마지막으로 잡은 word부터 찾기
+
+  public SlotPool(int size, boolean fair) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("size는 1 이상이어야 합니다: " + size);
+    }
+    this.size = size;
+    this.permits = new Semaphore(size, fair);
+    this.bitmap = new AtomicLongArray((size + 63) / 64);
+  }
+
+  /** 빈 자리가 생길 때까지 기다렸다가 slot 번호(0 ~ size-1)를 반환 */
+  public int acquire() throws InterruptedException {
+    permits.acquire();
+    return claim();
+  }
+
+  /** timeout 안에 못 잡으면 -1 */
+  public int tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+    if (!permits.tryAcquire(timeout, unit)) {
+      return -1;
+    }
+    return claim();
+  }
+
+  public void release(int slot) {
+    int word = slot >>> 6;
+    long bit = 1L << slot;
+    while (true) {
+      long current = bitmap.get(word);
+      if ((current & bit) == 0) {
+        throw new IllegalStateException("사용 중이 아닌 slot 반납: " + slot);
+      }
+      if (bitmap.compareAndSet(word, current, current & ~bit)) {
+        break;
+      }
+    }
+    permits.release(); // 비트를 먼저 비우고 permit을 돌려줘야 다음 스레드가 반드시 빈 비트를 찾는다.
+  }
+
+  public boolean isBusy(int slot) {
+    return (bitmap.get(slot >>> 6) & (1L << slot)) != 0;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int available() {
+    return permits.availablePermits();
+  }
+
+  // permit을 받은 스레드만 호출 → 빈 비트가 최소 1개는 있다.
+  private int claim() {
+    int words = bitmap.length();
+    int[] start = hint.get();
+    while (true) {
+      for (int n = 0; n < words; n++) {
+        int word = (start[0] + n) % words;
+        long current = bitmap.get(word);
+        long free = ~current & validMask(word);
+        while (free != 0) {
+          long bit = free & -free; // 가장 낮은 빈 비트
+          if (bitmap.compareAndSet(word, current, current | bit)) {
+            start[0] = word;
+            return (word << 6) + Long.numberOfTrailingZeros(bit);
+          }
+          current = bitmap.get(word); // 다른 스레드가 먼저 가져감 → 다시 읽기
+          free = ~current & validMask(word);
+        }
+      }
+    }
+  }
+
+  // 마지막 word에서 size를 넘는 비트는 사용하지 않음
+  private long validMask(int word) {
+    int bits = Math.min(64, size - (word << 6));
+    return bits == 64 ? -1L : (1L << bits) - 1;
+  }
+}
@@ -0,0 +1,60 @@
+package shop.mtcoding.bank.dto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import shop.mtcoding.bank.config.jackson.BankJacksonModule;
+import shop.mtcoding.bank.domain.user.User;
+import shop.mtcoding.bank.domain.user.UserEnum;
+import shop.mtcoding.bank.dto.user.UserResDto.JoinResDto;
+
+/**
+ * 기본 ObjectMapper vs BankJacksonModule (ResponseDtoSerializer + Blackbird)
+ * 실제 응답처럼 OutputStream에 UTF-8로 바로 쓴다.
+ * 실행: ./gradlew jmh -PjmhInclude=ResponseDtoBenchmark (메모리 할당량은 -prof gc 로 확인)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ResponseDtoBenchmark {
+  private final ObjectMapper defaultOm = new ObjectMapper();
+  private final ObjectMapper bankOm = BankJacksonModule.newObjectMapper();
+  private final OutputStream sink = OutputStream.nullOutputStream();
+  private ResponseDto<JoinResDto> responseDto;
+
+  @Setup
+  public void setup() {
+    User user = User.builder()
+        .id(1L)
+        .username("ssar")
+        .fullname("쌀")
+        .email("ssar@nate.com")
+        .role(UserEnum.CUSTOMER)
+        .createdAt(LocalDateTime.now())
+        .updatedAt(LocalDateTime.now())
+        .build();
+    responseDto = new ResponseDto<>(1, "회원가입 성공", new JoinResDto(user));
+  }
+
+  @Benchmark
+  public void default_objectMapper() throws IOException {
+    defaultOm.writeValue(sink, responseDto);
+  }
+
+  @Benchmark
+  public void bank_objectMapper() throws IOException {
+    bankOm.writeValue(sink, responseDto);
+  }
+}
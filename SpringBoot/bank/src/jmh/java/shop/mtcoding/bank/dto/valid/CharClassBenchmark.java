@@ -0,0 +1,50 @@
+package shop.mtcoding.bank.dto.valid;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 정규식(@Pattern이 내부적으로 하는 것) vs CharClass 스캐너
+ * 실행: ./gradlew jmh -PjmhInclude=CharClassBenchmark (메모리 할당량은 -prof gc 로 확인)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CharClassBenchmark {
+  private static final Pattern USERNAME = Pattern.compile("^[a-zA-Z0-9]{2,20}$");
+  private static final Pattern FULLNAME = Pattern.compile("[a-zA-Z가-힣]{1,20}");
+
+  @Param({ "ssar", "love1234love1234", "ssar!" })
+  public String username;
+
+  @Param({ "쌀", "러브Love", "쌀 쌀" })
+  public String fullname;
+
+  @Benchmark
+  public boolean username_regex() {
+    return USERNAME.matcher(username).matches();
+  }
+
+  @Benchmark
+  public boolean username_scanner() {
+    return CharClass.matchesAlphaNumeric(username, 2, 20);
+  }
+
+  @Benchmark
+  public boolean fullname_regex() {
+    return FULLNAME.matcher(fullname).matches();
+  }
+
+  @Benchmark
+  public boolean fullname_scanner() {
+    return CharClass.matchesAlphaOrHangul(fullname, 1, 20);
+  }
+}
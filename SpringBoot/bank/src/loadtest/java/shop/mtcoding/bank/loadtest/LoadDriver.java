@@ -0,0 +1,96 @@
+package shop.mtcoding.bank.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * open-model 부하 테스트 드라이버 (Java 21, virtual thread)
+ * 
+ * - 요청마다 virtual thread 하나, 도착 간격은 1/rate 초로 고정 → 서버가 느려져도 보내는 속도는 줄지 않는다.
+ * - 지연시간은 "보내기로 예정된 시각"부터 잰다. (coordinated omission 보정)
+ * - HdrHistogram으로 p50/p99/p999 기록 후 markdown 리포트 작성
+ * - 401/403 응답이 하나라도 오면 더 보내지 않고 중단 (인증 없이 거절 응답만 재는 결과를 리포트하지 않도록)
+ */
+public class LoadDriver {
+  private static final long HIGHEST_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+  public static void main(String[] args) throws Exception {
+    LoadOptions options = LoadOptions.parse(args);
+    HttpClient client = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+
+    List<LoadResult> results = new ArrayList<>();
+    for (Scenario scenario : options.scenarios()) {
+      System.out.println(scenario + " 워밍업 " + options.warmup() + "초");
+      run(client, scenario, options, options.warmup());
+      System.out.println(scenario + " 측정 " + options.duration() + "초, " + options.rate() + " req/s");
+      LoadResult result = run(client, scenario, options, options.duration());
+      System.out.println(result.toRow());
+      results.add(result);
+    }
+
+    LoadReport.write(options, results);
+  }
+
+  private static LoadResult run(HttpClient client, Scenario scenario, LoadOptions options, int seconds) {
+    Histogram histogram = new ConcurrentHistogram(HIGHEST_NANOS, 3);
+    LongAdder success = new LongAdder();
+    LongAdder failure = new LongAdder();
+    AtomicInteger rejectedStatus = new AtomicInteger(); // 0이 아니면 401/403을 받음
+    long total = (long) options.rate() * seconds;
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+    long start = System.nanoTime();
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (long seq = 0; seq < total && rejectedStatus.get() == 0; seq++) {
+        long intended = start + seq * intervalNanos;
+        long wait = intended - System.nanoTime();
+        if (wait > 0) {
+          LockSupport.parkNanos(wait);
+        }
+
+        long requestSeq = seq;
+        executor.execute(() -> {
+          try {
+            HttpResponse<Void> response = client.send(scenario.request(options, requestSeq), BodyHandlers.discarding());
+            if (response.statusCode() == 401 || response.statusCode() == 403) {
+              rejectedStatus.compareAndSet(0, response.statusCode());
+            }
+            if (response.statusCode() / 100 == 2) {
+              success.increment();
+            } else {
+              failure.increment();
+            }
+          } catch (Exception e) {
+            failure.increment();
+          }
+          histogram.recordValue(Math.min(System.nanoTime() - intended, HIGHEST_NANOS));
+        });
+      }
+    } // close(): 보낸 요청이 모두 끝날 때까지 대기
+
+    if (rejectedStatus.get() != 0) {
+      throw new IllegalStateException(scenario + " 중단: HTTP " + rejectedStatus.get()
+          + " - /api/s/** 인증이 되지 않았습니다. (--token과 서버의 인증 필터를 확인)");
+    }
+
+    long elapsedNanos = System.nanoTime() - start;
+    return new LoadResult(scenario, options.rate(), scenario.itemsPerRequest(options), success.sum(), failure.sum(),
+        elapsedNanos, histogram);
+  }
+}
@@ -0,0 +1,60 @@
+package shop.mtcoding.bank.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 실행 옵션 (--key=value)
+ * 
+ * --base-url=http://localhost:8081   대상 서버 (dev 프로파일 포트)
+ * --scenario=join,transfer           순서대로 실행
+ * --rate=100                         초당 요청 도착률 (open model: 응답을 기다리지 않고 일정 간격으로 보냄)
+ * --duration=30                      측정 시간(초)
+ * --warmup=5                         측정 전 워밍업(초), 기록하지 않음
+ * --users=10000 --accounts-per-user=2  DummyDataGenerator로 만든 데이터 크기
+ * --token=Bearer ...                 /api/s/** 인증 헤더 (서버에 이 헤더를 읽는 인증 필터가 있어야 한다)
+ * --withdraw-number=1000000001       transfer/bulk_transfer 출금계좌, history 조회 계좌 (--token 유저의 계좌, 없으면 무작위)
+ * --bulk-size=100                    bulk_transfer 요청 하나의 이체 건수
+ * --history-pages=5                  history가 무작위로 조회할 페이지 수 (0 ~ N-1, 페이지당 20건)
+ * --report=build/loadtest/report.md
+ */
+public record LoadOptions(String baseUrl, List<Scenario> scenarios, int rate, int duration, int warmup, long users,
+    long accountsPerUser, String token, Long withdrawNumber, int bulkSize, int historyPages, String report,
+    String runId, Duration requestTimeout) {
+
+  public static LoadOptions parse(String[] args) {
+    Map<String, String> map = new HashMap<>();
+    for (String arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("옵션 형식은 --key=value 입니다: " + arg);
+      }
+      int eq = arg.indexOf('=');
+      map.put(arg.substring(2, eq), arg.substring(eq + 1));
+    }
+
+    List<Scenario> scenarios = new ArrayList<>();
+    for (String name : map.getOrDefault("scenario", "join").split(",")) {
+      scenarios.add(Scenario.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+    }
+
+    return new LoadOptions(
+        map.getOrDefault("base-url", "http://localhost:8081"),
+        scenarios,
+        Integer.parseInt(map.getOrDefault("rate", "100")),
+        Integer.parseInt(map.getOrDefault("duration", "30")),
+        Integer.parseInt(map.getOrDefault("warmup", "5")),
+        Long.parseLong(map.getOrDefault("users", "10000")),
+        Long.parseLong(map.getOrDefault("accounts-per-user", "2")),
+        map.get("token"),
+        map.containsKey("withdraw-number") ? Long.valueOf(map.get("withdraw-number")) : null,
+        Integer.parseInt(map.getOrDefault("bulk-size", "100")),
+        Integer.parseInt(map.getOrDefault("history-pages", "5")),
+        map.getOrDefault("report", "build/loadtest/report.md"),
+        Long.toString(System.currentTimeMillis() % 1_000_000, 36), // username 중복 방지용 짧은 실행 id
+        Duration.ofSeconds(10));
+  }
+}
@@ -0,0 +1,34 @@
+package shop.mtcoding.bank.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class LoadReport {
+  private static final String HEADER = """
+      | 시나리오 | 목표 req/s | 처리량 req/s | 성공 | 실패 | p50 ms | p99 ms | p999 ms | max ms | 건/요청 | 건당 p50 ms |
+      |---|---|---|---|---|---|---|---|---|---|---|
+      """;
+
+  public static void write(LoadOptions options, List<LoadResult> results) throws IOException {
+    StringBuilder report = new StringBuilder()
+        .append("# 부하 테스트 리포트\n\n")
+        .append("- 일시: ").append(LocalDateTime.now()).append('\n')
+        .append("- 대상: ").append(options.baseUrl()).append('\n')
+        .append("- 측정 시간: ").append(options.duration()).append("초 (워밍업 ").append(options.warmup()).append("초 제외)\n")
+        .append("- 지연시간: 예정된 전송 시각 기준 (coordinated omission 보정)\n\n")
+        .append(HEADER);
+    for (LoadResult result : results) {
+      report.append(result.toRow()).append('\n');
+    }
+
+    Path path = Path.of(options.report());
+    if (path.getParent() != null) {
+      Files.createDirectories(path.getParent());
+    }
+    Files.writeString(path, report);
+    System.out.println("리포트: " + path.toAbsolutePath());
+  }
+}
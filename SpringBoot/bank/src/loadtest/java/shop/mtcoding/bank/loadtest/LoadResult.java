@@ -0,0 +1,24 @@
+package shop.mtcoding.bank.loadtest;
+
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+
+public record LoadResult(Scenario scenario, int targetRate, int itemsPerRequest, long success, long failure,
+    long elapsedNanos, Histogram histogram) {
+
+  public double throughput() {
+    return (success + failure) / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+  }
+
+  public double percentileMillis(double percentile) {
+    return histogram.getValueAtPercentile(percentile) / 1_000_000.0;
+  }
+
+  public String toRow() {
+    return String.format("| %s | %d | %.1f | %d | %d | %.2f | %.2f | %.2f | %.2f | %d | %.3f |",
+        scenario, targetRate, throughput(), success, failure,
+        percentileMillis(50), percentileMillis(99), percentileMillis(99.9),
+        histogram.getMaxValue() / 1_000_000.0, itemsPerRequest, percentileMillis(50) / itemsPerRequest);
+  }
+}
@@ -0,0 +1,91 @@
+package shop.mtcoding.bank.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트 시나리오
+ * transfer/bulk_transfer/history는 DummyDataGenerator로 만든 데이터(user{id} / 1234, 계좌번호 1000000000 + 계좌 id)를 대상으로 한다.
+ * /api/s/** 는 --token 으로 받은 Authorization 헤더를 붙인다. 401/403이 오면 LoadDriver가 바로 중단한다.
+ *
+ * transfer와 bulk_transfer(--bulk-size건)를 같은 rate로 비교하면 건당 지연시간으로 일괄이체 효과를 볼 수 있다.
+ * (출금계좌 하나로 계속 보내므로 bank.withdraw.hourly-limit / daily-limit을 충분히 올려서 실행)
+ */
+public enum Scenario {
+  JOIN {
+    @Override
+    HttpRequest request(LoadOptions options, long seq) {
+      String username = "lt" + options.runId() + seq; // 영문/숫자 20자 이내
+      return post(options, "/api/join", """
+          {"username":"%s","password":"1234","email":"lt@nate.com","fullname":"부하"}""".formatted(username));
+    }
+  },
+  TRANSFER {
+    @Override
+    HttpRequest request(LoadOptions options, long seq) {
+      return post(options, "/api/s/account/transfer", """
+          {"withdrawNumber":%d,"depositNumber":%d,"withdrawPassword":1234,"amount":100,"gubun":"TRANSFER"}"""
+          .formatted(withdrawNumber(options), randomAccountNumber(options)));
+    }
+  },
+  BULK_TRANSFER {
+    @Override
+    HttpRequest request(LoadOptions options, long seq) {
+      StringBuilder items = new StringBuilder();
+      for (int i = 0; i < options.bulkSize(); i++) {
+        items.append(i == 0 ? "" : ",")
+            .append("{\"depositNumber\":").append(randomAccountNumber(options)).append(",\"amount\":100}");
+      }
+      return post(options, "/api/s/account/bulk-transfer", """
+          {"withdrawNumber":%d,"withdrawPassword":1234,"items":[%s],"gubun":"TRANSFER"}"""
+          .formatted(withdrawNumber(options), items));
+    }
+
+    @Override
+    int itemsPerRequest(LoadOptions options) {
+      return options.bulkSize();
+    }
+  },
+  HISTORY {
+    // 거래내역 페이지 조회 (최신순 20건씩, 앞쪽 --history-pages 페이지 중 무작위)
+    @Override
+    HttpRequest request(LoadOptions options, long seq) {
+      long accountId = withdrawNumber(options) - 1_000_000_000L;
+      int page = ThreadLocalRandom.current().nextInt(options.historyPages());
+      return builder(options, "/api/s/account/" + accountId + "/transaction?page=" + page).GET().build();
+    }
+  };
+  abstract HttpRequest request(LoadOptions options, long seq);
+
+  // 요청 하나에 담긴 업무 건수 (리포트의 건당 지연시간 계산용)
+  int itemsPerRequest(LoadOptions options) {
+    return 1;
+  }
+
+  private static HttpRequest post(LoadOptions options, String path, String json) {
+    return builder(options, path)
+        .header("Content-Type", "application/json")
+        .POST(BodyPublishers.ofString(json))
+        .build();
+  }
+
+  private static HttpRequest.Builder builder(LoadOptions options, String path) {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(options.baseUrl() + path))
+        .timeout(options.requestTimeout());
+    if (options.token() != null && path.startsWith("/api/s/")) {
+      builder.header("Authorization", options.token());
+    }
+    return builder;
+  }
+
+  private static long withdrawNumber(LoadOptions options) {
+    return options.withdrawNumber() != null ? options.withdrawNumber() : randomAccountNumber(options);
+  }
+
+  private static long randomAccountNumber(LoadOptions options) {
+    long accountId = 1 + ThreadLocalRandom.current().nextLong(options.users() * options.accountsPerUser());
+    return 1_000_000_000L + accountId;
+  }
+}
@@ -0,0 +1,33 @@
+package shop.mtcoding.bank.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import shop.mtcoding.bank.handler.profile.ProfilingJacksonHttpMessageConverter;
+import shop.mtcoding.bank.handler.profile.ProfilingValidator;
+
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bank.profiler.enabled", havingValue = "true", matchIfMissing = true)
+@Configuration
+public class ProfilerConfig implements WebMvcConfigurer {
+  private final jakarta.validation.Validator validator; // 스프링 부트 기본 검증기 (defaultValidator)
+
+  // 스프링 부트가 만든 ObjectMapper(BankJacksonModule, Blackbird 포함)를 그대로 사용
+  @Bean
+  public ProfilingJacksonHttpMessageConverter profilingJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+    return new ProfilingJacksonHttpMessageConverter(objectMapper);
+  }
+
+  // @Valid 검증기: 기본 검증기를 감싸서 VALIDATION 구간 측정
+  @Override
+  public Validator getValidator() {
+    return new ProfilingValidator(new SpringValidatorAdapter(validator));
+  }
+}
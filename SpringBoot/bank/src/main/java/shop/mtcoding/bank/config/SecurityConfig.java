@@ -9,11 +9,13 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import shop.mtcoding.bank.domain.user.UserEnum;
+import shop.mtcoding.bank.handler.profile.SecurityStageFilter;
 import shop.mtcoding.bank.util.CustomResponseUtil;
 
 @Configuration
@@ -62,6 +64,9 @@ public class SecurityConfig {
                                 .requestMatchers("/api/admin/**").hasRole(UserEnum.ADMIN.name()) // 권한 확인
                                 .anyRequest().permitAll()
                                 );
+
+    // 6. 프로파일링: 인가까지 통과한 시점을 SECURITY 구간의 끝으로 기록 (프로파일링 대상 요청이 아니면 noop)
+    http.addFilterAfter(new SecurityStageFilter(), AuthorizationFilter.class);
     
     return http.build();
   }
@@ -0,0 +1,226 @@
+package shop.mtcoding.bank.config.dummy;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import shop.mtcoding.bank.config.shard.ShardContext;
+import shop.mtcoding.bank.domain.transaction.TrasactionEnum;
+import shop.mtcoding.bank.domain.user.UserEnum;
+
+/**
+ * 성능 테스트용 대량 데이터 생성기 (H2, MariaDB)
+ * 실행: java -jar bank.jar --bank.datagen.enabled=true --bank.datagen.users=1000000
+ *
+ * - 유저 구간을 스레드별로 나눠서 병렬 생성, JDBC batch insert (엔티티/영속성 컨텍스트 사용 안함)
+ * - 비밀번호는 DummyObject.ENC_PASSWORD 하나를 재사용 (BCrypt는 건당 수십 ms)
+ * - 계좌별 거래 건수는 파레토 분포(소수 계좌에 거래 집중), 잔액 = 1000 + 입금 - 출금 (원장 대사와 일치)
+ * - user/account id는 직접 부여, transaction id는 DB identity 사용
+ * - shard 프로파일이면 유저/계좌 id를 (id - 1) % N 이 같은 샤드가 되도록 부여하고, 행은 그 샤드에 넣는다.
+ *
+ * MariaDB는 jdbc url에 useBulkStmts=true(기본값)여야 batch가 한 번에 전송된다.
+ */
+@ConditionalOnProperty(name = "bank.datagen.enabled", havingValue = "true")
+@Component
+public class DummyDataGenerator implements ApplicationRunner {
+  private static final long OPENING_BALANCE = 1000L;
+  private static final double PARETO_ALPHA = 1.16; // 80:20
+  private static final int USERS_PER_CHUNK = 500;
+
+  private static final String USER_SQL = "insert into user_tb (id, username, password, email, fullname, role, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String ACCOUNT_SQL = "insert into account_tb (id, number, password, balance, opening_balance, user_id, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String TRANSACTION_SQL = "insert into transaction_tb (withdraw_account_id, deposit_account_id, amount, withdraw_account_balance, deposit_account_balance, gubun, senter, receiver, tel, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+  private final JdbcTemplate jdbcTemplate;
+  private final int users;
+  private final int accountsPerUser;
+  private final int transactionsPerAccount;
+  private final int days;
+  private final int threads;
+  private final int batchSize;
+  private final int shardCount;
+
+  public DummyDataGenerator(JdbcTemplate jdbcTemplate,
+      @Value("${bank.datagen.users:10000}") int users,
+      @Value("${bank.datagen.accounts-per-user:2}") int accountsPerUser,
+      @Value("${bank.datagen.transactions-per-account:20}") int transactionsPerAccount,
+      @Value("${bank.datagen.days:90}") int days,
+      @Value("${bank.datagen.threads:4}") int threads,
+      @Value("${bank.datagen.batch-size:1000}") int batchSize,
+      @Value("${bank.shard.count:1}") int shardCount) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.users = users;
+    this.accountsPerUser = accountsPerUser;
+    this.transactionsPerAccount = transactionsPerAccount;
+    this.days = days;
+    this.threads = threads;
+    this.batchSize = batchSize;
+    this.shardCount = shardCount;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws Exception {
+    long start = System.currentTimeMillis();
+    long userBase = nextId("user_tb");
+    long accountBase = nextId("account_tb");
+    long userEnd = userBase + users;
+    long accountEnd = accountBase + (long) users * accountsPerUser * shardCount;
+    LocalDateTime now = LocalDateTime.now();
+    AtomicLong transactionCount = new AtomicLong();
+    log.info("데이터 생성 시작 - 유저 " + users + ", 계좌 " + (long) users * accountsPerUser + ", 스레드 " + threads);
+
+    // 1. 유저 구간(chunk)을 스레드풀에 나눠서 생성
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int from = 0; from < users; from += USERS_PER_CHUNK) {
+        int chunkFrom = from;
+        int chunkTo = Math.min(from + USERS_PER_CHUNK, users);
+        futures.add(pool.submit(() -> {
+          transactionCount.addAndGet(generateChunk(userBase, accountBase, chunkFrom, chunkTo, now));
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      pool.shutdown();
+    }
+
+    // 2. 직접 넣은 id 이후부터 identity가 이어지도록 (H2는 자동으로 올라가지 않음)
+    restartIdentity("user_tb", userEnd);
+    restartIdentity("account_tb", accountEnd);
+
+    log.info("데이터 생성 완료 - 거래 " + transactionCount.get() + "건, " + (System.currentTimeMillis() - start) + "ms");
+  }
+
+  // 유저 [from, to) 와 그 계좌, 거래내역 생성 → 반환: 거래 건수
+  // userBase, accountBase는 0번 샤드 id이므로 userBase + i 의 샤드는 i % N,
+  // 계좌 id는 accountBase + (계좌 순번 * N) + 샤드 → 소유 유저와 같은 샤드
+  private long generateChunk(long userBase, long accountBase, int from, int to, LocalDateTime now) {
+    SplittableRandom random = new SplittableRandom(from); // 같은 설정이면 같은 데이터
+    Timestamp createdAt = Timestamp.valueOf(now.minusDays(days));
+    List<List<Object[]>> userRows = newShardLists();
+    List<List<Object[]>> accountRows = newShardLists();
+    List<List<Object[]>> transactionRows = newShardLists();
+    long transactionCount = 0;
+
+    for (int i = from; i < to; i++) {
+      long userId = userBase + i;
+      int shard = ShardContext.shardOf(userId, shardCount);
+      userRows.get(shard).add(new Object[] { userId, "user" + userId, DummyObject.ENC_PASSWORD,
+          "u" + userId + "@nate.com", "유저" + userId, UserEnum.CUSTOMER.name(), createdAt, createdAt });
+
+      for (int k = 0; k < accountsPerUser; k++) {
+        long accountId = accountBase + ((long) i * accountsPerUser + k) * shardCount + shard;
+        long number = 1_000_000_000L + accountId;
+        long balance = generateTransactions(random, accountId, number, now, transactionRows.get(shard));
+        accountRows.get(shard).add(new Object[] { accountId, number, 1234L, balance, OPENING_BALANCE, userId,
+            createdAt, createdAt });
+      }
+    }
+
+    // 샤드마다 fk 순서: user → account → transaction
+    for (int shard = 0; shard < shardCount; shard++) {
+      int current = shard;
+      ShardContext.run(shard, () -> {
+        batchInsert(USER_SQL, userRows.get(current));
+        batchInsert(ACCOUNT_SQL, accountRows.get(current));
+        batchInsert(TRANSACTION_SQL, transactionRows.get(current));
+      });
+      transactionCount += transactionRows.get(shard).size();
+    }
+    return transactionCount;
+  }
+
+  private List<List<Object[]>> newShardLists() {
+    List<List<Object[]>> lists = new ArrayList<>();
+    for (int shard = 0; shard < shardCount; shard++) {
+      lists.add(new ArrayList<>());
+    }
+    return lists;
+  }
+
+  // 한 계좌의 입출금 내역을 시간순으로 만들고 최종 잔액 반환
+  private long generateTransactions(SplittableRandom random, long accountId, long number, LocalDateTime now,
+      List<Object[]> rows) {
+    int count = paretoCount(random);
+    long balance = OPENING_BALANCE;
+    long windowSeconds = days * 86_400L;
+    LocalDateTime start = now.minusDays(days);
+
+    for (int n = 0; n < count; n++) {
+      Timestamp at = Timestamp.valueOf(start.plusSeconds(windowSeconds * (n + 1) / (count + 1)));
+      long amount = 100L * (1 + random.nextInt(100)); // 100 ~ 10000
+
+      if (balance >= amount && random.nextInt(10) < 4) { // 출금 40%
+        balance -= amount;
+        rows.add(new Object[] { accountId, null, amount, balance, null, TrasactionEnum.WITHDRAW.name(),
+            String.valueOf(number), "ATM", null, at, at });
+      } else {
+        balance += amount;
+        rows.add(new Object[] { null, accountId, amount, null, balance, TrasactionEnum.DEPOSIT.name(),
+            "ATM", String.valueOf(number), "01022227777", at, at });
+      }
+    }
+    return balance;
+  }
+
+  // 평균이 transactionsPerAccount인 파레토 분포 (최대 평균의 100배)
+  private int paretoCount(SplittableRandom random) {
+    double xm = transactionsPerAccount * (PARETO_ALPHA - 1) / PARETO_ALPHA;
+    double x = xm / Math.pow(1.0 - random.nextDouble(), 1.0 / PARETO_ALPHA);
+    return (int) Math.min(x, transactionsPerAccount * 100.0);
+  }
+
+  private void batchInsert(String sql, List<Object[]> rows) {
+    for (int i = 0; i < rows.size(); i += batchSize) {
+      jdbcTemplate.batchUpdate(sql, rows.subList(i, Math.min(i + batchSize, rows.size())));
+    }
+  }
+
+  // 모든 샤드의 max(id) 다음이면서 0번 샤드 id인 값
+  private long nextId(String table) {
+    long max = 0;
+    for (int shard = 0; shard < shardCount; shard++) {
+      Long shardMax = ShardContext.call(shard, () -> jdbcTemplate.queryForObject("select max(id) from " + table, Long.class));
+      if (shardMax != null) max = Math.max(max, shardMax);
+    }
+    return firstIdOfShard(max + 1, 0);
+  }
+
+  private void restartIdentity(String table, long end) {
+    for (int shard = 0; shard < shardCount; shard++) {
+      long next = firstIdOfShard(end, shard);
+      ShardContext.run(shard, () -> {
+        String product = jdbcTemplate.execute((Connection conn) -> conn.getMetaData().getDatabaseProductName());
+        if ("H2".equals(product)) {
+          jdbcTemplate.execute("alter table " + table + " alter column id restart with " + next);
+        }
+        // MariaDB auto_increment는 직접 넣은 id 이후로 자동으로 올라간다. (auto_increment_offset 유지)
+      });
+    }
+  }
+
+  // from 이상이면서 (id - 1) % N == shard 인 가장 작은 id
+  private long firstIdOfShard(long from, int shard) {
+    return from + Math.floorMod(shard - (from - 1), (long) shardCount);
+  }
+}
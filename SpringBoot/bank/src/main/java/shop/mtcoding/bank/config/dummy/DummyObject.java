@@ -4,17 +4,18 @@ import java.time.LocalDateTime;
 
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import shop.mtcoding.bank.domain.account.Account;
 import shop.mtcoding.bank.domain.user.User;
 import shop.mtcoding.bank.domain.user.UserEnum;
 
 public class DummyObject {
+  // BCrypt는 일부러 느리다. "1234" 해시는 한 번만 만들어서 재사용
+  public static final String ENC_PASSWORD = new BCryptPasswordEncoder().encode("1234");
+
   protected User newUser(String username, String fullname) {
-    BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
-    String encPassword = passwordEncoder.encode("1234");
-  
     return User.builder()
                   .username(username)
-                  .password(encPassword)
+                  .password(ENC_PASSWORD)
                   .email("ssar@nate.com")
                   .fullname(fullname)
                   .role(UserEnum.CUSTOMER)
@@ -22,13 +23,10 @@ public class DummyObject {
   }
 
   protected User newMockUser(Long id, String username, String fullname) {
-    BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
-    String encPassword = passwordEncoder.encode("1234");
-
     return User.builder()
                   .id(id)
                   .username(username)
-                  .password(encPassword)
+                  .password(ENC_PASSWORD)
                   .email("ssar@nate.com")
                   .fullname(fullname)
                   .role(UserEnum.CUSTOMER)
@@ -36,5 +34,17 @@ public class DummyObject {
                   .updatedAt(LocalDateTime.now())
                   .build();
   }
+
+  protected Account newMockAccount(Long id, Long number, Long balance, User user) {
+    return Account.builder()
+                  .id(id)
+                  .number(number)
+                  .password(1234L)
+                  .balance(balance)
+                  .user(user)
+                  .createdAt(LocalDateTime.now())
+                  .updatedAt(LocalDateTime.now())
+                  .build();
+  }
   
 }
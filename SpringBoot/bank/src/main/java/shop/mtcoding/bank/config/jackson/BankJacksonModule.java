@@ -0,0 +1,28 @@
+package shop.mtcoding.bank.config.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import shop.mtcoding.bank.dto.ResponseDto;
+import shop.mtcoding.bank.dto.ResponseDtoSerializer;
+
+/**
+ * ResponseDto envelope 전용 serializer 등록
+ * 나머지 dto(Lombok getter)는 BlackbirdModule이 getter 호출 코드를 생성(LambdaMetafactory)해서 리플렉션 호출을 없앤다.
+ */
+public class BankJacksonModule extends SimpleModule {
+
+  public BankJacksonModule() {
+    super("BankJacksonModule");
+    addSerializer(ResponseDto.class, new ResponseDtoSerializer());
+  }
+
+  // 스프링 빈 밖(필터, 유틸)에서 쓸 ObjectMapper
+  public static ObjectMapper newObjectMapper() {
+    return new ObjectMapper()
+        .findAndRegisterModules()
+        .registerModule(new BlackbirdModule())
+        .registerModule(new BankJacksonModule());
+  }
+}
@@ -0,0 +1,24 @@
+package shop.mtcoding.bank.config.jackson;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Module 빈은 스프링 부트가 ObjectMapper에 자동으로 등록해준다.
+ */
+@Configuration
+public class JacksonConfig {
+
+  @Bean
+  public Module bankJacksonModule() {
+    return new BankJacksonModule();
+  }
+
+  @Bean
+  public Module blackbirdModule() {
+    return new BlackbirdModule();
+  }
+}
@@ -0,0 +1,53 @@
+package shop.mtcoding.bank.config.shard;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드가 사용할 샤드 번호 (ShardRoutingDataSource가 커넥션을 얻을 때 참고)
+ * 
+ * 배치 규칙
+ * - 신규 유저: username 해시 % N 샤드에 저장
+ * - id: 샤드마다 identity를 (샤드번호 + 1)부터 N씩 증가 → (id - 1) % N 이 곧 샤드 번호
+ * - 계좌, 거래내역은 소유 유저와 같은 샤드
+ * 
+ * 트랜잭션이 시작될 때 커넥션을 잡으므로 반드시 @Transactional / TransactionTemplate 바깥에서 설정해야 한다.
+ */
+public class ShardContext {
+  private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+  public static int current() {
+    Integer shard = CURRENT.get();
+    return shard == null ? 0 : shard;
+  }
+
+  public static <T> T call(int shard, Supplier<T> action) {
+    Integer previous = CURRENT.get();
+    CURRENT.set(shard);
+    try {
+      return action.get();
+    } finally {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+
+  public static void run(int shard, Runnable action) {
+    call(shard, () -> {
+      action.run();
+      return null;
+    });
+  }
+
+  // 유저/계좌/거래 id → 샤드
+  public static int shardOf(long id, int shardCount) {
+    return (int) Math.floorMod(id - 1, (long) shardCount);
+  }
+
+  // 신규 유저 배치 (String.hashCode는 JVM이 달라도 같은 값)
+  public static int shardOf(String username, int shardCount) {
+    return Math.floorMod(username.hashCode(), shardCount);
+  }
+}
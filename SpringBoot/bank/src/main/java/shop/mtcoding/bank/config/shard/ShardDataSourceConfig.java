@@ -0,0 +1,47 @@
+package shop.mtcoding.bank.config.shard;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * shard 프로파일: 샤드 N개의 DataSource를 만들고 ShardContext로 라우팅
+ * url-pattern의 %d 자리에 샤드 번호가 들어간다. (로컬은 H2 메모리 DB N개)
+ */
+@Profile("shard")
+@Configuration
+public class ShardDataSourceConfig {
+
+  @Primary
+  @Bean
+  public DataSource dataSource(
+      @Value("${bank.shard.count}") int shardCount,
+      @Value("${bank.shard.url-pattern}") String urlPattern,
+      @Value("${bank.shard.driver-class-name}") String driverClassName,
+      @Value("${bank.shard.username}") String username,
+      @Value("${bank.shard.password:}") String password) {
+    Map<Object, Object> shards = new HashMap<>();
+    for (int shard = 0; shard < shardCount; shard++) {
+      shards.put(shard, DataSourceBuilder.create()
+          .url(String.format(urlPattern, shard))
+          .driverClassName(driverClassName)
+          .username(username)
+          .password(password)
+          .build());
+    }
+
+    ShardRoutingDataSource dataSource = new ShardRoutingDataSource();
+    dataSource.setTargetDataSources(shards);
+    dataSource.setDefaultTargetDataSource(shards.get(0));
+    dataSource.setLenientFallback(false); // 없는 샤드 번호면 예외
+    return dataSource;
+  }
+}
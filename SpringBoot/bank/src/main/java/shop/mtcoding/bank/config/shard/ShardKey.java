@@ -0,0 +1,17 @@
+package shop.mtcoding.bank.config.shard;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 서비스 메서드 파라미터 중 샤드를 결정하는 값 (shard 프로파일에서 ShardRoutingAdvice가 사용)
+ * - Long: 유저/계좌 id
+ * - String: username
+ * - 그 외: username 프로퍼티를 가진 객체 (JoinReqDto 등)
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardKey {
+}
@@ -0,0 +1,11 @@
+package shop.mtcoding.bank.config.shard;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return ShardContext.current();
+  }
+}
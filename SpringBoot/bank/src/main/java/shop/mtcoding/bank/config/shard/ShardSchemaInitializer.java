@@ -0,0 +1,58 @@
+package shop.mtcoding.bank.config.shard;
+
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 샤드마다 테이블 생성 + id 간격 설정 (ddl-auto는 기본 샤드 하나에만 적용되므로 대신 사용)
+ * 
+ * MariaDB 운영 환경에서는 스키마를 미리 만들고 샤드 서버마다
+ * auto_increment_increment = N, auto_increment_offset = 샤드번호 + 1 로 설정한다. (create-schema: false)
+ */
+@Profile("shard")
+@ConditionalOnProperty(name = "bank.shard.create-schema", havingValue = "true")
+@Component
+public class ShardSchemaInitializer implements InitializingBean {
+  private static final String[] TABLES = { "user_tb", "account_tb", "transaction_tb", "transfer_saga_tb" };
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+  private final EntityManagerFactory emf;
+  private final JdbcTemplate jdbcTemplate;
+  private final int shardCount;
+
+  public ShardSchemaInitializer(EntityManagerFactory emf, DataSource dataSource,
+      @Value("${bank.shard.count}") int shardCount) {
+    this.emf = emf;
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.shardCount = shardCount;
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    for (int shard = 0; shard < shardCount; shard++) {
+      int current = shard;
+      ShardContext.run(shard, () -> {
+        // 1. 엔티티 매핑대로 테이블 생성 (현재 샤드의 커넥션 사용)
+        emf.unwrap(SessionFactory.class).getSchemaManager().exportMappedObjects(true);
+
+        // 2. id = 샤드번호 + 1, + N, + 2N ... → (id - 1) % N 으로 샤드를 알 수 있다.
+        for (String table : TABLES) {
+          jdbcTemplate.execute("alter table " + table + " alter column id set increment by " + shardCount);
+          jdbcTemplate.execute("alter table " + table + " alter column id restart with " + (current + 1));
+        }
+      });
+    }
+    log.debug("디버그: 샤드 스키마 생성 - " + shardCount + "개");
+  }
+}
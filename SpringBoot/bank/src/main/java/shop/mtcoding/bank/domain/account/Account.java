@@ -19,10 +19,11 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import shop.mtcoding.bank.domain.user.User;
+import shop.mtcoding.bank.handler.ex.CustomApiException;
 
 @NoArgsConstructor // 스프링이 User 객체 생성할 때 빈생성자로 new를 하기 때문
 @Getter
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({ AuditingEntityListener.class, AccountDirectoryListener.class })
 @Table(name = "account_tb")
 @Entity
 public class Account {
@@ -39,6 +40,9 @@ public class Account {
   @Column(nullable = false)
   private Long balance; // 잔액 (기본값 1000원)
 
+  @Column(nullable = false, updatable = false)
+  private Long openingBalance; // 개설 시 잔액 (원장 대사 기준)
+
   // 항상 ORM에서 fk의 주인은 Many Entity 쪽이다.
   @ManyToOne(fetch = FetchType.LAZY) // 지연로딩: account.getUser().아무필드호출() ==> Lazy 발동
   private User user;
@@ -52,14 +56,38 @@ public class Account {
   private LocalDateTime updatedAt;
 
   @Builder
-  public Account(Long id, Long number, Long password, Long balance, User user, LocalDateTime createdAt,
-      LocalDateTime updatedAt) {
+  public Account(Long id, Long number, Long password, Long balance, Long openingBalance, User user,
+      LocalDateTime createdAt, LocalDateTime updatedAt) {
     this.id = id;
     this.number = number;
     this.password = password;
     this.balance = balance;
+    this.openingBalance = openingBalance != null ? openingBalance : balance; // 새 계좌는 지금 잔액이 개설 잔액
     this.user = user;
     this.createdAt = createdAt;
     this.updatedAt = updatedAt;
   }
+
+  public void checkOwner(Long userId) {
+    if (!user.getId().equals(userId)) { // Lazy 로딩 안됨 (id는 프록시가 알고 있음)
+      throw new CustomApiException("계좌 소유자가 아닙니다.");
+    }
+  }
+
+  public void checkPassword(Long password) {
+    if (!this.password.equals(password)) {
+      throw new CustomApiException("계좌 비밀번호 검증에 실패했습니다.");
+    }
+  }
+
+  public void withdraw(Long amount) {
+    if (balance < amount) {
+      throw new CustomApiException("계좌 잔액이 부족합니다.");
+    }
+    balance -= amount;
+  }
+
+  public void deposit(Long amount) {
+    balance += amount;
+  }
 }
@@ -0,0 +1,61 @@
+package shop.mtcoding.bank.domain.account;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 계좌별 일말(end-of-day) 잔액 스냅샷
+ * 특정 시점 잔액 = 가장 가까운 스냅샷 + 그 다음날부터 해당 시점까지의 거래내역
+ */
+@NoArgsConstructor
+@Getter
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "account_balance_snapshot_tb", uniqueConstraints = {
+    @UniqueConstraint(columnNames = { "account_id", "snapshot_date" })
+})
+@Entity
+public class AccountBalanceSnapshot {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  private Account account;
+
+  @Column(nullable = false)
+  private LocalDate snapshotDate; // 이 날짜가 끝난 시점(23:59:59.999..)의 잔액
+
+  @Column(nullable = false)
+  private Long balance;
+
+  @CreatedDate // Insert data
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  @Builder
+  public AccountBalanceSnapshot(Long id, Account account, LocalDate snapshotDate, Long balance,
+      LocalDateTime createdAt) {
+    this.id = id;
+    this.account = account;
+    this.snapshotDate = snapshotDate;
+    this.balance = balance;
+    this.createdAt = createdAt;
+  }
+}
@@ -0,0 +1,39 @@
+package shop.mtcoding.bank.domain.account;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.QueryHint;
+
+public interface AccountBalanceSnapshotRepository extends JpaRepository<AccountBalanceSnapshot, Long> {
+
+  // 기준일 이전(기준일 제외) 가장 최근 스냅샷
+  Optional<AccountBalanceSnapshot> findFirstByAccountIdAndSnapshotDateLessThanOrderBySnapshotDateDesc(Long accountId, LocalDate date);
+
+  // 기준일 이후(기준일 포함) 가장 이른 스냅샷 (이전 스냅샷이 없을 때 거꾸로 재생)
+  Optional<AccountBalanceSnapshot> findFirstByAccountIdAndSnapshotDateGreaterThanEqualOrderBySnapshotDateAsc(Long accountId, LocalDate date);
+
+  // 해당 날짜 스냅샷 (account.id 범위)
+  @Query("select s from AccountBalanceSnapshot s where s.snapshotDate = :date and s.account.id between :fromId and :toId")
+  List<AccountBalanceSnapshot> findAllBySnapshotDateAndAccountIdBetween(@Param("date") LocalDate date, @Param("fromId") Long fromId, @Param("toId") Long toId);
+
+  // (account_id, snapshot_date)가 이미 있으면 그대로 둔다. (여러 인스턴스가 같은 날 스냅샷 작업을 돌려도 충돌 없음)
+  // 같은 날짜의 일말 잔액은 누가 계산해도 같으므로 기존 행을 유지한다. (MariaDB, H2 MODE=MySQL)
+  // native DML은 영향받는 테이블을 알려주지 않으면 hibernate가 2차 캐시 전체를 비우므로 테이블을 지정한다.
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "account_balance_snapshot_tb"))
+  @Query(value = "insert into account_balance_snapshot_tb (account_id, snapshot_date, balance, created_at)"
+      + " values (:accountId, :snapshotDate, :balance, :createdAt)"
+      + " on duplicate key update balance = balance", nativeQuery = true)
+  int insertIfAbsent(@Param("accountId") Long accountId, @Param("snapshotDate") LocalDate snapshotDate,
+      @Param("balance") Long balance, @Param("createdAt") LocalDateTime createdAt);
+}
@@ -0,0 +1,158 @@
+package shop.mtcoding.bank.domain.account;
+
+import java.util.concurrent.locks.StampedLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import shop.mtcoding.bank.config.shard.ShardContext;
+import shop.mtcoding.bank.util.LongLongHashMap;
+
+/**
+ * 계좌번호 → (계좌 id, 소유자 user id) 메모리 색인
+ * 
+ * 이체는 계좌번호로 들어오는데 PK는 id라서, 락을 잡기 전에 number unique index 조회가 한 번씩 더 필요하다.
+ * 이 색인으로 id를 바로 찾아서 findById(락)로 넘어간다.
+ * 
+ * - value에 (계좌 id << 32 | user id)를 묶어 저장 → 계좌당 약 20 byte (load factor 0.8)
+ * - 서버 시작 시 account_tb를 JDBC로 스트리밍해서 채우고 (샤드가 여러 개면 샤드마다), 이후 생성/삭제는 AccountDirectoryListener가 커밋 후 반영
+ * - 읽기는 StampedLock 낙관적 읽기 (쓰기가 없으면 락 경합 없음)
+ * 
+ * 색인은 힌트다. 로딩 전이거나 없는 번호면 NOT_FOUND → DB 조회로 대체하고, 찾은 id로 읽은 계좌의 번호를 다시 확인해야 한다.
+ */
+@Component
+public class AccountDirectory {
+  public static final long NOT_FOUND = -1L;
+  private static final long MAX_ID = 0xFFFF_FFFFL;
+  private static final int LOAD_CHUNK = 10_000;
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+  private final StampedLock lock = new StampedLock();
+  private final JdbcTemplate jdbcTemplate;
+  private final int shardCount;
+  private LongLongHashMap entries = new LongLongHashMap(1024);
+  private volatile boolean loaded;
+
+  public AccountDirectory(JdbcTemplate jdbcTemplate, @Value("${bank.shard.count:1}") int shardCount) {
+    this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+    this.jdbcTemplate.setFetchSize(LOAD_CHUNK);
+    this.shardCount = shardCount;
+  }
+
+  public long findAccountId(long number) {
+    long packed = lookup(number);
+    return packed == NOT_FOUND ? NOT_FOUND : packed >>> 32;
+  }
+
+  public long findUserId(long number) {
+    long packed = lookup(number);
+    return packed == NOT_FOUND ? NOT_FOUND : packed & MAX_ID;
+  }
+
+  public boolean isLoaded() {
+    return loaded;
+  }
+
+  public int size() {
+    long stamp = lock.readLock();
+    try {
+      return entries.size();
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  public void put(long number, long accountId, long userId) {
+    long packed = pack(accountId, userId);
+    long stamp = lock.writeLock();
+    try {
+      entries.put(number, packed);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  public void remove(long number) {
+    long stamp = lock.writeLock();
+    try {
+      entries.remove(number);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    long start = System.currentTimeMillis();
+
+    // 1. 건수만큼 미리 할당 (로딩 중 resize 방지, 이후 생성분 여유 10%)
+    long count = 0;
+    for (int shard = 0; shard < shardCount; shard++) {
+      count += ShardContext.call(shard, () -> jdbcTemplate.queryForObject("select count(*) from account_tb", Long.class));
+    }
+    long stamp = lock.writeLock();
+    try {
+      entries = new LongLongHashMap((int) Math.min(Integer.MAX_VALUE / 2, count * 11 / 10 + 1024));
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+
+    // 2. 엔티티 없이 (number, id, user_id)만 스트리밍, 쓰기 락은 LOAD_CHUNK 건마다 잠깐씩 잡는다.
+    long[] chunk = new long[LOAD_CHUNK * 2];
+    int[] filled = { 0 };
+    for (int shard = 0; shard < shardCount; shard++) {
+      ShardContext.run(shard, () -> jdbcTemplate.query("select number, id, user_id from account_tb", rs -> {
+        chunk[filled[0]++] = rs.getLong(1);
+        chunk[filled[0]++] = pack(rs.getLong(2), rs.getLong(3));
+        if (filled[0] == chunk.length) {
+          putAll(chunk, filled[0]);
+          filled[0] = 0;
+        }
+      }));
+    }
+    putAll(chunk, filled[0]);
+
+    loaded = true;
+    log.debug("디버그: 계좌 색인 로딩 - " + size() + "건, " + (System.currentTimeMillis() - start) + "ms");
+  }
+
+  private long lookup(long number) {
+    if (!loaded) {
+      return NOT_FOUND;
+    }
+    long stamp = lock.tryOptimisticRead();
+    long packed = entries.get(number, NOT_FOUND);
+    if (!lock.validate(stamp)) {
+      stamp = lock.readLock(); // 읽는 도중 쓰기가 있었으면 읽기 락으로 다시
+      try {
+        packed = entries.get(number, NOT_FOUND);
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+    return packed;
+  }
+
+  private void putAll(long[] chunk, int length) {
+    long stamp = lock.writeLock();
+    try {
+      for (int i = 0; i < length; i += 2) {
+        entries.put(chunk[i], chunk[i + 1]);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  private static long pack(long accountId, long userId) {
+    if (accountId < 0 || accountId > MAX_ID || userId < 0 || userId > MAX_ID) {
+      throw new IllegalStateException("계좌 색인은 32bit id까지만 지원합니다: " + accountId + ", " + userId);
+    }
+    return accountId << 32 | userId;
+  }
+}
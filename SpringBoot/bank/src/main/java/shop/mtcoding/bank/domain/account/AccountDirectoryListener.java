@@ -0,0 +1,48 @@
+package shop.mtcoding.bank.domain.account;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+
+/**
+ * 계좌 생성/삭제를 AccountDirectory에 반영 (트랜잭션 커밋 후)
+ * 스프링 부트가 Hibernate에 SpringBeanContainer를 등록하므로 엔티티 리스너도 빈으로 주입받는다.
+ */
+@Component
+public class AccountDirectoryListener {
+  private final AccountDirectory accountDirectory;
+
+  public AccountDirectoryListener(AccountDirectory accountDirectory) {
+    this.accountDirectory = accountDirectory;
+  }
+
+  @PostPersist
+  public void postPersist(Account account) {
+    long number = account.getNumber();
+    long accountId = account.getId();
+    long userId = account.getUser().getId(); // 프록시여도 id는 초기화 없이 조회됨
+    afterCommit(() -> accountDirectory.put(number, accountId, userId));
+  }
+
+  @PostRemove
+  public void postRemove(Account account) {
+    long number = account.getNumber();
+    afterCommit(() -> accountDirectory.remove(number));
+  }
+
+  private void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+}
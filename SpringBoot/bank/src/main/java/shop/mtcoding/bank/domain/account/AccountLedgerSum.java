@@ -0,0 +1,12 @@
+package shop.mtcoding.bank.domain.account;
+
+/**
+ * 원장 대사용 projection: 계좌 잔액과 거래내역 입출금 합계
+ */
+public interface AccountLedgerSum {
+  Long getAccountId();
+  Long getBalance();
+  Long getOpeningBalance();
+  Long getDepositAmount();
+  Long getWithdrawAmount();
+}
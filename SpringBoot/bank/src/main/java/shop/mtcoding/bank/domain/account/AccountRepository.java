@@ -1,7 +1,59 @@
 package shop.mtcoding.bank.domain.account;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
-  
+
+  // 배치 작업용 keyset 페이징: id > afterId 순서대로 size만큼
+  Slice<Account> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+  @Query("select min(a.id) from Account a")
+  Long findMinId();
+
+  @Query("select max(a.id) from Account a")
+  Long findMaxId();
+
+  // 원장 대사: 계좌 id 구간의 잔액, 개설 잔액 + 입출금 합계를 엔티티 없이 스트리밍 (트랜잭션 안에서만 사용 가능)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+  @Query("select a.id as accountId, a.balance as balance, a.openingBalance as openingBalance,"
+      + " (select coalesce(sum(d.amount), 0) from Transaction d where d.depositAccount.id = a.id) as depositAmount,"
+      + " (select coalesce(sum(w.amount), 0) from Transaction w where w.withdrawAccount.id = a.id) as withdrawAmount"
+      + " from Account a where a.id between :fromId and :toId")
+  Stream<AccountLedgerSum> streamLedgerSumByIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+  // select id, number, balance from account where user_id = ?
+  List<AccountSummary> findSummaryByUserIdOrderByIdDesc(Long userId);
+
+  // 소유자 확인용 (Account 엔티티를 읽지 않고 fk만)
+  @Query("select a.user.id from Account a where a.id = :id")
+  Optional<Long> findUserIdById(@Param("id") Long id);
+
+  // 계좌번호 → id (AccountDirectory에 없을 때)
+  @Query("select a.id from Account a where a.number = :number")
+  Optional<Long> findIdByNumber(@Param("number") Long number);
+
+  // 이체: select ... for update (잔액 변경 전 row 락)
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select a from Account a where a.id = :id")
+  Optional<Account> findByIdForUpdate(@Param("id") Long id);
+
+  // 일괄이체: 여러 계좌를 id 순서로 한 번에 락 (단건 이체와 같은 순서라 데드락 없음)
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select a from Account a where a.id in :ids order by a.id")
+  List<Account> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,10 @@
+package shop.mtcoding.bank.domain.account;
+
+/**
+ * 조회 전용 projection: 계좌 목록에 필요한 컬럼만 select
+ */
+public interface AccountSummary {
+  Long getId();
+  Long getNumber();
+  Long getBalance();
+}
@@ -0,0 +1,70 @@
+package shop.mtcoding.bank.domain.reconciliation;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 원장 대사(reconciliation) 작업의 완료된 구간 기록 (샤드 + 구간 시작 id로 구분, 0번 샤드에 저장)
+ * 작업이 중간에 멈추면 여기 기록된 구간은 건너뛰고 이어서 진행한다.
+ */
+@NoArgsConstructor
+@Getter
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "reconciliation_chunk_tb", uniqueConstraints = {
+    @UniqueConstraint(columnNames = { "run_id", "shard", "from_id" })
+})
+@Entity
+public class ReconciliationChunk {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false, length = 40)
+  private String runId;
+
+  @Column(nullable = false)
+  private Integer shard;
+
+  @Column(nullable = false)
+  private Long fromId; // account.id 시작 (포함)
+
+  @Column(nullable = false)
+  private Long toId; // account.id 끝 (포함)
+
+  @Column(nullable = false)
+  private Long accountCount;
+
+  @Column(nullable = false)
+  private Long discrepancyCount;
+
+  @CreatedDate // Insert data
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  @Builder
+  public ReconciliationChunk(Long id, String runId, Integer shard, Long fromId, Long toId, Long accountCount,
+      Long discrepancyCount, LocalDateTime createdAt) {
+    this.id = id;
+    this.runId = runId;
+    this.shard = shard;
+    this.fromId = fromId;
+    this.toId = toId;
+    this.accountCount = accountCount;
+    this.discrepancyCount = discrepancyCount;
+    this.createdAt = createdAt;
+  }
+}
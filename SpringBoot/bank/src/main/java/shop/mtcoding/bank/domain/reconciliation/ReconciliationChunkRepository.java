@@ -0,0 +1,17 @@
+package shop.mtcoding.bank.domain.reconciliation;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReconciliationChunkRepository extends JpaRepository<ReconciliationChunk, Long> {
+
+  List<ReconciliationChunk> findByRunId(String runId);
+
+  long countByRunId(String runId);
+
+  @Query("select coalesce(sum(c.accountCount), 0) from ReconciliationChunk c where c.runId = :runId")
+  long sumAccountCountByRunId(@Param("runId") String runId);
+}
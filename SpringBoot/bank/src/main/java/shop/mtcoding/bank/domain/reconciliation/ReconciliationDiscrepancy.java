@@ -0,0 +1,60 @@
+package shop.mtcoding.bank.domain.reconciliation;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 원장 대사 결과 불일치 계좌 리포트
+ * expectedBalance = 계좌 개설 잔액 + 입금합계 - 출금합계
+ */
+@NoArgsConstructor
+@Getter
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "reconciliation_discrepancy_tb")
+@Entity
+public class ReconciliationDiscrepancy {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false, length = 40)
+  private String runId;
+
+  // 계좌가 삭제되어도 리포트는 남아야 하므로 fk 대신 id만 기록
+  @Column(nullable = false)
+  private Long accountId;
+
+  @Column(nullable = false)
+  private Long expectedBalance;
+
+  @Column(nullable = false)
+  private Long actualBalance;
+
+  @CreatedDate // Insert data
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  @Builder
+  public ReconciliationDiscrepancy(Long id, String runId, Long accountId, Long expectedBalance, Long actualBalance,
+      LocalDateTime createdAt) {
+    this.id = id;
+    this.runId = runId;
+    this.accountId = accountId;
+    this.expectedBalance = expectedBalance;
+    this.actualBalance = actualBalance;
+    this.createdAt = createdAt;
+  }
+}
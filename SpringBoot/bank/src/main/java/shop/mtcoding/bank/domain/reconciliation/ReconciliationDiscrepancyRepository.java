@@ -0,0 +1,8 @@
+package shop.mtcoding.bank.domain.reconciliation;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ReconciliationDiscrepancyRepository extends JpaRepository<ReconciliationDiscrepancy, Long> {
+
+  long countByRunId(String runId);
+}
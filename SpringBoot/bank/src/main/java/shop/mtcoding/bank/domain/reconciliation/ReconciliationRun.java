@@ -0,0 +1,97 @@
+package shop.mtcoding.bank.domain.reconciliation;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 원장 대사 실행 기록 + 구간 계획 (runId, 샤드마다 한 행)
+ * 처음 시작할 때의 샤드별 id 범위와 chunkSize를 저장해두고, 같은 runId로 재개하면 이 계획으로 구간을 다시 만든다.
+ * (그 사이 계좌가 추가/삭제되거나 설정이 바뀌어도 구간 경계가 같으므로 완료 구간을 다시 검사하지 않는다.)
+ * 기록은 모두 0번 샤드에 저장한다.
+ */
+@NoArgsConstructor
+@Getter
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "reconciliation_run_tb", uniqueConstraints = {
+    @UniqueConstraint(columnNames = { "run_id", "shard" })
+})
+@Entity
+public class ReconciliationRun {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false, length = 40)
+  private String runId;
+
+  @Column(nullable = false)
+  private Integer shard; // 이 계획이 다루는 계좌의 샤드
+
+  private Long minId; // 계좌가 없으면 null
+
+  private Long maxId;
+
+  @Column(nullable = false)
+  private Long chunkSize;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private ReconciliationRunEnum status;
+
+  private Long elapsedMillis; // 마지막 실행 시간
+
+  @CreatedDate // Insert data
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  @LastModifiedDate // Insert/Update data
+  @Column(nullable = false)
+  private LocalDateTime updatedAt;
+
+  @Builder
+  public ReconciliationRun(Long id, String runId, Integer shard, Long minId, Long maxId, Long chunkSize,
+      ReconciliationRunEnum status, Long elapsedMillis, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    this.id = id;
+    this.runId = runId;
+    this.shard = shard;
+    this.minId = minId;
+    this.maxId = maxId;
+    this.chunkSize = chunkSize;
+    this.status = status;
+    this.elapsedMillis = elapsedMillis;
+    this.createdAt = createdAt;
+    this.updatedAt = updatedAt;
+  }
+
+  public long getChunkCount() {
+    if (minId == null) return 0;
+    return (maxId - minId) / chunkSize + 1;
+  }
+
+  public void start() {
+    this.status = ReconciliationRunEnum.RUNNING;
+    this.elapsedMillis = null;
+  }
+
+  public void finish(ReconciliationRunEnum status, long elapsedMillis) {
+    this.status = status;
+    this.elapsedMillis = elapsedMillis;
+  }
+}
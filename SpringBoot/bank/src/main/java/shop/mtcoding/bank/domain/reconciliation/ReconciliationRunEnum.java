@@ -0,0 +1,14 @@
+package shop.mtcoding.bank.domain.reconciliation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ReconciliationRunEnum {
+  RUNNING("진행중"),
+  DONE("완료"),
+  FAILED("실패"); // 같은 runId로 다시 시작하면 남은 구간부터 이어서 진행
+
+  private String value;
+}
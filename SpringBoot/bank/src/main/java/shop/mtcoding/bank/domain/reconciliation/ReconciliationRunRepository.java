@@ -0,0 +1,10 @@
+package shop.mtcoding.bank.domain.reconciliation;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ReconciliationRunRepository extends JpaRepository<ReconciliationRun, Long> {
+
+  List<ReconciliationRun> findByRunIdOrderByShardAsc(String runId);
+}
@@ -0,0 +1,9 @@
+package shop.mtcoding.bank.domain.transaction;
+
+/**
+ * 계좌별 거래금액 합계 projection (group by 결과)
+ */
+public interface AccountAmountSum {
+  Long getAccountId();
+  Long getAmount();
+}
@@ -1,7 +1,55 @@
 package shop.mtcoding.bank.domain.transaction;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.QueryHint;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
-  
+
+  // 특정 계좌로 들어온 금액 합계 [from, to)
+  @Query("select coalesce(sum(t.amount), 0) from Transaction t where t.depositAccount.id = :accountId and t.createdAt >= :from and t.createdAt < :to")
+  Long sumDepositAmount(@Param("accountId") Long accountId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+  // 특정 계좌에서 나간 금액 합계 [from, to)
+  @Query("select coalesce(sum(t.amount), 0) from Transaction t where t.withdrawAccount.id = :accountId and t.createdAt >= :from and t.createdAt < :to")
+  Long sumWithdrawAmount(@Param("accountId") Long accountId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+  // 계좌별 입금 합계 [from, to) - account.id 범위
+  @Query("select t.depositAccount.id as accountId, sum(t.amount) as amount from Transaction t"
+      + " where t.createdAt >= :from and t.createdAt < :to and t.depositAccount.id between :fromId and :toId"
+      + " group by t.depositAccount.id")
+  List<AccountAmountSum> sumDepositAmountGroupByAccount(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+      @Param("fromId") Long fromId, @Param("toId") Long toId);
+
+  // 계좌별 출금 합계 [from, to) - account.id 범위
+  @Query("select t.withdrawAccount.id as accountId, sum(t.amount) as amount from Transaction t"
+      + " where t.createdAt >= :from and t.createdAt < :to and t.withdrawAccount.id between :fromId and :toId"
+      + " group by t.withdrawAccount.id")
+  List<AccountAmountSum> sumWithdrawAmountGroupByAccount(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+      @Param("fromId") Long fromId, @Param("toId") Long toId);
+
+  // 계좌 거래내역 페이징 (입금/출금 모두, 최신순) - fk 컬럼만 읽어서 Account join 없음
+  @Query("select t.id as id, t.gubun as gubun, t.amount as amount,"
+      + " t.withdrawAccount.id as withdrawAccountId, t.depositAccount.id as depositAccountId,"
+      + " t.withdrawAccountBalance as withdrawAccountBalance, t.depositAccountBalance as depositAccountBalance,"
+      + " t.senter as senter, t.receiver as receiver, t.tel as tel, t.createdAt as createdAt"
+      + " from Transaction t where t.withdrawAccount.id = :accountId or t.depositAccount.id = :accountId"
+      + " order by t.id desc")
+  Slice<TransactionSummary> findSummaryByAccountId(@Param("accountId") Long accountId, Pageable pageable);
+
+  // since 이후 출금(출금/이체) 내역 스트리밍 - 트랜잭션 안에서만 사용 가능
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  @Query("select t.withdrawAccount.id as accountId, t.amount as amount, t.createdAt as createdAt from Transaction t"
+      + " where t.withdrawAccount.id is not null and t.createdAt >= :since")
+  Stream<WithdrawHistory> streamWithdrawHistorySince(@Param("since") LocalDateTime since);
 }
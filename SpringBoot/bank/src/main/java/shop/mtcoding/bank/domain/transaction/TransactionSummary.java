@@ -0,0 +1,20 @@
+package shop.mtcoding.bank.domain.transaction;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조회 전용 projection: 거래내역 목록에 필요한 컬럼만 select (Account join 없음)
+ */
+public interface TransactionSummary {
+  Long getId();
+  TrasactionEnum getGubun();
+  Long getAmount();
+  Long getWithdrawAccountId();
+  Long getDepositAccountId();
+  Long getWithdrawAccountBalance();
+  Long getDepositAccountBalance();
+  String getSenter();
+  String getReceiver();
+  String getTel();
+  LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,12 @@
+package shop.mtcoding.bank.domain.transaction;
+
+import java.time.LocalDateTime;
+
+/**
+ * 출금 한도 카운터 재구성용 projection
+ */
+public interface WithdrawHistory {
+  Long getAccountId();
+  Long getAmount();
+  LocalDateTime getCreatedAt();
+}
@@ -17,6 +17,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import shop.mtcoding.bank.domain.account.Account;
@@ -61,6 +62,7 @@ public class Transaction {
   @Column(nullable = false)
   private LocalDateTime updatedAt;
 
+  @Builder
   public Transaction(Long id, Account withdrawAccount, Account depositAccount, Long amount, Long withdrawAccountBalance,
       Long depositAccountBalance, TrasactionEnum gubun, String senter, String receiver, String tel,
       LocalDateTime createdAt, LocalDateTime updatedAt) {
@@ -0,0 +1,92 @@
+package shop.mtcoding.bank.domain.transfer;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 샤드 간 이체 saga 기록
+ * 출금 샤드와 입금 샤드에 같은 sagaId로 한 건씩 남는다. (샤드 간 FK가 없으므로 계좌는 id/번호로만 보관)
+ */
+@NoArgsConstructor
+@Getter
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "transfer_saga_tb")
+@Entity
+public class TransferSaga {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(unique = true, nullable = false, length = 36)
+  private String sagaId; // UUID
+
+  @Column(nullable = false)
+  private Long withdrawAccountId;
+
+  @Column(nullable = false)
+  private Long withdrawNumber;
+
+  @Column(nullable = false)
+  private Long depositAccountId;
+
+  @Column(nullable = false)
+  private Long depositNumber;
+
+  @Column(nullable = false)
+  private Long amount;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private TransferSagaEnum status;
+
+  @CreatedDate // Insert data
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  @LastModifiedDate // Insert/Update data
+  @Column(nullable = false)
+  private LocalDateTime updatedAt;
+
+  @Builder
+  public TransferSaga(Long id, String sagaId, Long withdrawAccountId, Long withdrawNumber, Long depositAccountId,
+      Long depositNumber, Long amount, TransferSagaEnum status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    this.id = id;
+    this.sagaId = sagaId;
+    this.withdrawAccountId = withdrawAccountId;
+    this.withdrawNumber = withdrawNumber;
+    this.depositAccountId = depositAccountId;
+    this.depositNumber = depositNumber;
+    this.amount = amount;
+    this.status = status;
+    this.createdAt = createdAt;
+    this.updatedAt = updatedAt;
+  }
+
+  public boolean isPending() {
+    return status == TransferSagaEnum.WITHDRAWN;
+  }
+
+  public void complete() {
+    this.status = TransferSagaEnum.COMPLETED;
+  }
+
+  public void compensate() {
+    this.status = TransferSagaEnum.COMPENSATED;
+  }
+}
@@ -0,0 +1,16 @@
+package shop.mtcoding.bank.domain.transfer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum TransferSagaEnum {
+  WITHDRAWN("출금완료"), // 출금 샤드: 입금 대기
+  DEPOSITED("입금완료"), // 입금 샤드: 같은 sagaId로 두 번 입금되지 않도록 남기는 기록
+  COMPLETED("이체완료"), // 출금 샤드: 입금 확인
+  COMPENSATED("출금취소"), // 출금 샤드: 입금 실패로 환불
+  ABORTED("입금차단"); // 입금 샤드: 환불 전에 남기는 기록 (같은 sagaId의 입금은 unique 위반으로 실패)
+
+  private String value;
+}
@@ -0,0 +1,32 @@
+package shop.mtcoding.bank.domain.transfer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+import shop.mtcoding.bank.domain.transaction.WithdrawHistory;
+
+public interface TransferSagaRepository extends JpaRepository<TransferSaga, Long> {
+
+  Optional<TransferSaga> findBySagaId(String sagaId);
+
+  // 완료/보상 처리가 동시에 일어나지 않도록 saga row 락
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select s from TransferSaga s where s.sagaId = :sagaId")
+  Optional<TransferSaga> findBySagaIdForUpdate(@Param("sagaId") String sagaId);
+
+  // 입금 단계 결과를 모르는 채로 멈춘 saga (복구 대상)
+  List<TransferSaga> findByStatusAndCreatedAtBefore(TransferSagaEnum status, LocalDateTime before);
+
+  // 출금 한도 카운터 재구성: since 이후 출금했다가 환불된 몫 (createdAt = 출금 시각)
+  @Query("select s.withdrawAccountId as accountId, s.amount as amount, s.createdAt as createdAt from TransferSaga s"
+      + " where s.status = :status and s.createdAt >= :since")
+  List<WithdrawHistory> findWithdrawHistoryByStatusSince(@Param("status") TransferSagaEnum status,
+      @Param("since") LocalDateTime since);
+}
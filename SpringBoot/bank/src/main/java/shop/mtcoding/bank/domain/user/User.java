@@ -2,10 +2,15 @@ package shop.mtcoding.bank.domain.user;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -22,6 +27,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor // 스프링이 User 객체 생성할 때 빈생성자로 new를 하기 때문
 @Getter
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable // 2차 캐시: 거의 바뀌지 않고 Account.user 지연로딩마다 조회됨
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "shop.mtcoding.bank.domain.user.User")
+@NaturalIdCache // username -> id 조회도 캐시
 @Table(name = "user_tb")
 @Entity
 public class User {
@@ -30,6 +38,7 @@ public class User {
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
+  @NaturalId // 변경 불가, bySimpleNaturalId()로 캐시 조회
   @Column(unique = true, nullable = false, length = 20)
   private String username;
 
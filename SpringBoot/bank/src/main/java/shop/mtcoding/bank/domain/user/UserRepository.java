@@ -4,9 +4,12 @@ import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface UserRepository extends JpaRepository<User, Long>{
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
   // select * from user where username = ?
   Optional<User> findByUsername(String username); // Jpa NameQuery 작동
   // Save -> 이미 만들어져 있음.
+
+  // select id, username, fullname from user where id = ?
+  Optional<UserSummary> findSummaryById(Long id);
 }
@@ -0,0 +1,9 @@
+package shop.mtcoding.bank.domain.user;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+  // natural id(username) 조회: 2차 캐시에 있으면 DB를 타지 않는다.
+  Optional<User> findByNaturalId(String username);
+}
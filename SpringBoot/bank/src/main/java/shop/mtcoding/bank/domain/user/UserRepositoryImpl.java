@@ -0,0 +1,21 @@
+package shop.mtcoding.bank.domain.user;
+
+import java.util.Optional;
+
+import org.hibernate.Session;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+  @PersistenceContext
+  private EntityManager em;
+
+  @Override
+  public Optional<User> findByNaturalId(String username) {
+    return em.unwrap(Session.class)
+              .bySimpleNaturalId(User.class)
+              .loadOptional(username);
+  }
+}
@@ -0,0 +1,10 @@
+package shop.mtcoding.bank.domain.user;
+
+/**
+ * 조회 전용 projection: 필요한 컬럼만 select, 영속성 컨텍스트에 스냅샷이 남지 않는다.
+ */
+public interface UserSummary {
+  Long getId();
+  String getUsername();
+  String getFullname();
+}
@@ -6,6 +6,21 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @Getter
 public class ResponseDto<T> {
+  // 고정 msg: ResponseDtoSerializer가 이 상수들을 모아 미리 인코딩해둔다. (새 msg는 여기에 추가)
+  public static final String JOIN_SUCCESS = "회원가입 성공";
+  public static final String FORBIDDEN = "권한없음";
+  public static final String VALIDATION_FAILED = "유효성 검사 실패";
+  public static final String TOO_MANY_REQUESTS = "요청이 많아 잠시 후 다시 시도해주세요";
+  public static final String TRANSFER_DONE = "계좌 이체 완료";
+  public static final String BULK_TRANSFER_DONE = "일괄 이체 완료";
+  public static final String STATEMENT_FOUND = "계좌 명세서 조회 성공";
+  public static final String ACCOUNT_LIST_FOUND = "계좌 목록 조회 성공";
+  public static final String TRANSACTION_LIST_FOUND = "거래내역 조회 성공";
+  public static final String RECONCILIATION_STARTED = "원장 대사 시작";
+  public static final String RECONCILIATION_FOUND = "원장 대사 조회 성공";
+  public static final String CACHE_STATS_FOUND = "캐시 통계 조회 성공";
+  public static final String SLOW_REQUESTS_FOUND = "느린 요청 조회 성공";
+
   private final Integer code; // 1: 성공, -1: 실패
   private final String msg;
   private final T data;
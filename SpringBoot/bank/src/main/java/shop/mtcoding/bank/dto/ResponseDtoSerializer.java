@@ -0,0 +1,81 @@
+package shop.mtcoding.bank.dto;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * ResponseDto 전용 직렬화: {"code":..,"msg":..,"data":..}
+ * 
+ * - 필드명과 자주 쓰는 msg는 미리 UTF-8로 인코딩해두고(SerializedString) 출력 버퍼에 그대로 복사한다.
+ * - 제네릭 envelope를 리플렉션(BeanSerializer)으로 풀지 않고, data만 실제 타입의 serializer에 맡긴다.
+ * 결과 JSON은 기본 ObjectMapper와 완전히 같다.
+ */
+public class ResponseDtoSerializer extends StdSerializer<ResponseDto<?>> {
+  private static final SerializedString CODE = new SerializedString("code");
+  private static final SerializedString MSG = new SerializedString("msg");
+  private static final SerializedString DATA = new SerializedString("data");
+
+  // ResponseDto의 고정 msg 상수 (목록을 따로 두지 않으므로 상수를 추가하면 자동으로 포함된다)
+  static final Map<String, SerializedString> MESSAGES = new HashMap<>();
+
+  static {
+    for (Field field : ResponseDto.class.getDeclaredFields()) {
+      int modifiers = field.getModifiers();
+      if (Modifier.isStatic(modifiers) && Modifier.isFinal(modifiers) && field.getType() == String.class) {
+        try {
+          String msg = (String) field.get(null);
+          MESSAGES.put(msg, new SerializedString(msg));
+        } catch (IllegalAccessException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+    }
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  public ResponseDtoSerializer() {
+    super((Class) ResponseDto.class);
+  }
+
+  @Override
+  public void serialize(ResponseDto<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+
+    gen.writeFieldName(CODE);
+    if (value.getCode() == null) {
+      gen.writeNull();
+    } else {
+      gen.writeNumber(value.getCode().intValue());
+    }
+
+    gen.writeFieldName(MSG);
+    String msg = value.getMsg();
+    SerializedString encoded = msg == null ? null : MESSAGES.get(msg);
+    if (encoded != null) {
+      gen.writeString(encoded);
+    } else if (msg == null) {
+      gen.writeNull();
+    } else {
+      gen.writeString(msg);
+    }
+
+    gen.writeFieldName(DATA);
+    Object data = value.getData();
+    if (data == null) {
+      gen.writeNull();
+    } else {
+      // provider가 타입별 serializer를 캐시하므로 리플렉션 탐색은 타입당 한 번
+      provider.findValueSerializer(data.getClass()).serialize(data, gen, provider);
+    }
+
+    gen.writeEndObject();
+  }
+}
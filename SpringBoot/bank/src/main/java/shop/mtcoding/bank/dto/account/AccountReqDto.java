@@ -0,0 +1,77 @@
+package shop.mtcoding.bank.dto.account;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+public class AccountReqDto {
+
+  @Setter
+  @Getter
+  public static class TransferReqDto {
+    @NotNull
+    @Positive
+    private Long withdrawNumber;
+
+    @NotNull
+    @Positive
+    private Long depositNumber;
+
+    @NotNull
+    @Digits(integer = 4, fraction = 0)
+    private Long withdrawPassword;
+
+    @NotNull
+    @Positive
+    @Max(100_000_000) // 1억, 건당 상한
+    private Long amount;
+
+    @NotEmpty
+    @Pattern(regexp = "TRANSFER")
+    private String gubun;
+  }
+
+  // 일괄이체 (급여 이체 등): 출금계좌 하나 → 입금계좌 여러 개
+  @Setter
+  @Getter
+  public static class BulkTransferReqDto {
+    @NotNull
+    @Positive
+    private Long withdrawNumber;
+
+    @NotNull
+    @Digits(integer = 4, fraction = 0)
+    private Long withdrawPassword;
+
+    @NotEmpty
+    @Size(max = 5000)
+    @Valid
+    private List<BulkTransferItemDto> items;
+
+    @NotEmpty
+    @Pattern(regexp = "TRANSFER")
+    private String gubun;
+
+    @Setter
+    @Getter
+    public static class BulkTransferItemDto {
+      @NotNull
+      @Positive
+      private Long depositNumber;
+
+      @NotNull
+      @Positive
+      @Max(100_000_000) // 1억, 건당 상한 (합계는 서비스에서 overflow 검사)
+      private Long amount;
+    }
+  }
+}
@@ -0,0 +1,193 @@
+package shop.mtcoding.bank.dto.account;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Slice;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import shop.mtcoding.bank.domain.account.Account;
+import shop.mtcoding.bank.domain.account.AccountSummary;
+import shop.mtcoding.bank.domain.transaction.Transaction;
+import shop.mtcoding.bank.domain.transaction.TransactionSummary;
+import shop.mtcoding.bank.domain.user.UserSummary;
+
+public class AccountResDto {
+
+  @ToString
+  @Setter
+  @Getter
+  public static class TransferResDto {
+    private Long id; // 출금 계좌 id
+    private Long number;
+    private Long balance; // 출금 후 잔액
+    private Long transactionId;
+    private Long amount;
+    private String receiver;
+    private LocalDateTime createdAt;
+
+    public TransferResDto(Account account, Transaction transaction) {
+      this.id = account.getId();
+      this.number = account.getNumber();
+      this.balance = account.getBalance();
+      this.transactionId = transaction.getId();
+      this.amount = transaction.getAmount();
+      this.receiver = transaction.getReceiver();
+      this.createdAt = transaction.getCreatedAt();
+    }
+  }
+
+  @ToString
+  @Setter
+  @Getter
+  public static class BulkTransferResDto {
+    private Long id; // 출금 계좌 id
+    private Long number;
+    private Long balance; // 전체 처리 후 잔액
+    private Long totalAmount; // 성공한 이체 합계
+    private int successCount;
+    private int failCount;
+    private List<BulkTransferItemResDto> items; // 요청 순서 그대로
+
+    public BulkTransferResDto(Account account, List<BulkTransferItemResDto> items) {
+      this.id = account.getId();
+      this.number = account.getNumber();
+      this.balance = account.getBalance();
+      this.items = items;
+      this.totalAmount = 0L;
+      for (BulkTransferItemResDto item : items) {
+        if (item.isSuccess()) {
+          this.totalAmount += item.getAmount();
+          this.successCount++;
+        } else {
+          this.failCount++;
+        }
+      }
+    }
+
+    @ToString
+    @Setter
+    @Getter
+    public static class BulkTransferItemResDto {
+      private int index;
+      private Long depositNumber;
+      private Long amount;
+      private boolean success;
+      private String msg; // 실패 사유
+
+      public BulkTransferItemResDto(int index, Long depositNumber, Long amount) {
+        this.index = index;
+        this.depositNumber = depositNumber;
+        this.amount = amount;
+      }
+
+      public void succeed() {
+        this.success = true;
+        this.msg = null;
+      }
+
+      public void fail(String msg) {
+        this.success = false;
+        this.msg = msg;
+      }
+    }
+  }
+
+  @ToString
+  @Setter
+  @Getter
+  public static class StatementResDto {
+    private Long accountId;
+    private Long number;
+    private LocalDate from;
+    private LocalDate to;
+    private Long openingBalance; // from 0시 잔액
+    private Long depositAmount; // 기간 입금 합계
+    private Long withdrawAmount; // 기간 출금 합계
+    private Long closingBalance; // to 다음날 0시 잔액
+
+    public StatementResDto(Account account, LocalDate from, LocalDate to, Long openingBalance, Long depositAmount,
+        Long withdrawAmount) {
+      this.accountId = account.getId();
+      this.number = account.getNumber();
+      this.from = from;
+      this.to = to;
+      this.openingBalance = openingBalance;
+      this.depositAmount = depositAmount;
+      this.withdrawAmount = withdrawAmount;
+      this.closingBalance = openingBalance + depositAmount - withdrawAmount;
+    }
+  }
+
+  @ToString
+  @Setter
+  @Getter
+  public static class AccountListResDto {
+    private String fullname;
+    private List<AccountDto> accounts;
+
+    public AccountListResDto(UserSummary user, List<AccountSummary> accounts) {
+      this.fullname = user.getFullname();
+      this.accounts = accounts.stream().map(AccountDto::new).collect(Collectors.toList());
+    }
+
+    @ToString
+    @Setter
+    @Getter
+    public static class AccountDto {
+      private Long id;
+      private Long number;
+      private Long balance;
+
+      public AccountDto(AccountSummary account) {
+        this.id = account.getId();
+        this.number = account.getNumber();
+        this.balance = account.getBalance();
+      }
+    }
+  }
+
+  @ToString
+  @Setter
+  @Getter
+  public static class TransactionListResDto {
+    private List<TransactionDto> transactions;
+    private boolean hasNext;
+
+    public TransactionListResDto(Long accountId, Slice<TransactionSummary> transactions) {
+      this.transactions = transactions.stream().map(t -> new TransactionDto(accountId, t)).collect(Collectors.toList());
+      this.hasNext = transactions.hasNext();
+    }
+
+    @ToString
+    @Setter
+    @Getter
+    public static class TransactionDto {
+      private Long id;
+      private String gubun;
+      private Long amount;
+      private String sender;
+      private String receiver;
+      private String tel;
+      private Long balance; // 조회한 계좌 기준 거래 후 잔액
+      private LocalDateTime createdAt;
+
+      public TransactionDto(Long accountId, TransactionSummary transaction) {
+        this.id = transaction.getId();
+        this.gubun = transaction.getGubun().getValue();
+        this.amount = transaction.getAmount();
+        this.sender = transaction.getSenter();
+        this.receiver = transaction.getReceiver();
+        this.tel = transaction.getTel();
+        this.balance = accountId.equals(transaction.getWithdrawAccountId())
+            ? transaction.getWithdrawAccountBalance()
+            : transaction.getDepositAccountBalance();
+        this.createdAt = transaction.getCreatedAt();
+      }
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package shop.mtcoding.bank.dto.admin;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.stat.CacheRegionStatistics;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import shop.mtcoding.bank.handler.profile.SlowRequest;
+import shop.mtcoding.bank.handler.profile.Stage;
+
+public class AdminResDto {
+
+  @ToString
+  @Setter
+  @Getter
+  public static class CacheStatsResDto {
+    private String region;
+    private Long hitCount;
+    private Long missCount;
+    private Long putCount;
+    private Long elementCountInMemory;
+
+    public CacheStatsResDto(String region, CacheRegionStatistics statistics) {
+      this.region = region;
+      this.hitCount = statistics.getHitCount();
+      this.missCount = statistics.getMissCount();
+      this.putCount = statistics.getPutCount();
+      this.elementCountInMemory = statistics.getElementCountInMemory();
+    }
+  }
+
+  @ToString
+  @Setter
+  @Getter
+  public static class SlowRequestResDto {
+    private String method;
+    private String uri;
+    private Integer status;
+    private Double totalMs;
+    private Map<String, Double> stageMs; // 구간별 ms, 나머지는 서비스 로직/기타
+    private LocalDateTime createdAt;
+
+    public SlowRequestResDto(SlowRequest slowRequest) {
+      this.method = slowRequest.getMethod();
+      this.uri = slowRequest.getUri();
+      this.status = slowRequest.getStatus();
+      this.totalMs = toMillis(slowRequest.getTotalNanos());
+      this.stageMs = new LinkedHashMap<>();
+      for (Stage stage : Stage.values()) {
+        this.stageMs.put(stage.name(), toMillis(slowRequest.getNanos(stage)));
+      }
+      this.createdAt = slowRequest.getCreatedAt();
+    }
+
+    private static Double toMillis(long nanos) {
+      return Math.round(nanos / 10_000.0) / 100.0; // 소수점 둘째 자리
+    }
+  }
+}
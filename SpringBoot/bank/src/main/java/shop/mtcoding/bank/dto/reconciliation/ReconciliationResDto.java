@@ -0,0 +1,23 @@
+package shop.mtcoding.bank.dto.reconciliation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+public class ReconciliationResDto {
+
+  @ToString
+  @Setter
+  @Getter
+  @AllArgsConstructor
+  public static class RunResDto {
+    private String runId;
+    private String status; // 진행중, 완료, 실패
+    private Long chunkCount; // 전체 구간 수 (처음 시작할 때 정한 계획)
+    private Long completedChunkCount; // 완료 구간 수 (이전 실행 포함)
+    private Long accountCount; // 완료 구간에서 검사한 계좌 수
+    private Long discrepancyCount; // runId 전체 불일치 건수
+    private Long elapsedMillis; // 마지막 실행 시간 (진행 중이면 null)
+  }
+}
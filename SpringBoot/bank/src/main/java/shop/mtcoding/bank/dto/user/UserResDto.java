@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import shop.mtcoding.bank.domain.user.User;
+import shop.mtcoding.bank.domain.user.UserSummary;
 
 public class UserResDto {
   
@@ -21,4 +22,25 @@ public class UserResDto {
       this.fullname = user.getFullname();
     }
   }
+
+  @ToString
+  @Setter
+  @Getter
+  public static class UserInfoResDto {
+    private Long id;
+    private String username;
+    private String fullname;
+
+    public UserInfoResDto(UserSummary user) {
+      this.id = user.getId();
+      this.username = user.getUsername();
+      this.fullname = user.getFullname();
+    }
+
+    public UserInfoResDto(User user) {
+      this.id = user.getId();
+      this.username = user.getUsername();
+      this.fullname = user.getFullname();
+    }
+  }
 }
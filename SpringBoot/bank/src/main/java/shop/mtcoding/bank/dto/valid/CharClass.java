@@ -0,0 +1,56 @@
+package shop.mtcoding.bank.dto.valid;
+
+/**
+ * 정규식 없이 문자열을 검사하는 문자 클래스 스캐너
+ * String.charAt()으로 한 번 훑기만 하므로 Matcher 등 객체를 만들지 않는다. (allocation-free)
+ * 
+ * - ASCII: 128칸 lookup table
+ * - 한글: 완성형 음절 범위 체크 (가 U+AC00 ~ 힣 U+D7A3)
+ */
+public final class CharClass {
+  private static final byte ALPHA = 1; // a-z, A-Z
+  private static final byte DIGIT = 2; // 0-9
+
+  private static final byte[] ASCII = new byte[128];
+
+  static {
+    for (char c = 'a'; c <= 'z'; c++) ASCII[c] |= ALPHA;
+    for (char c = 'A'; c <= 'Z'; c++) ASCII[c] |= ALPHA;
+    for (char c = '0'; c <= '9'; c++) ASCII[c] |= DIGIT;
+  }
+
+  private CharClass() {}
+
+  public static boolean isAsciiAlpha(char c) {
+    return c < 128 && (ASCII[c] & ALPHA) != 0;
+  }
+
+  public static boolean isAsciiAlphaNumeric(char c) {
+    return c < 128 && (ASCII[c] & (ALPHA | DIGIT)) != 0;
+  }
+
+  public static boolean isHangulSyllable(char c) {
+    return c >= '가' && c <= '힣';
+  }
+
+  // ^[a-zA-Z0-9]{min,max}$
+  public static boolean matchesAlphaNumeric(CharSequence value, int min, int max) {
+    int length = value.length();
+    if (length < min || length > max) return false;
+    for (int i = 0; i < length; i++) {
+      if (!isAsciiAlphaNumeric(value.charAt(i))) return false;
+    }
+    return true;
+  }
+
+  // ^[a-zA-Z가-힣]{min,max}$
+  public static boolean matchesAlphaOrHangul(CharSequence value, int min, int max) {
+    int length = value.length();
+    if (length < min || length > max) return false;
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (!isAsciiAlpha(c) && !isHangulSyllable(c)) return false;
+    }
+    return true;
+  }
+}
@@ -0,0 +1,28 @@
+package shop.mtcoding.bank.dto.valid;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+/**
+ * fullname 형식: 영어, 한글, 길이 1-20
+ * = @Pattern(regexp = "[a-zA-Z가-힣]{1,20}") 와 같은 결과 (null은 통과, @NotEmpty와 함께 사용)
+ */
+@Documented
+@Constraint(validatedBy = FullnameValidator.class)
+@Target({ FIELD, PARAMETER })
+@Retention(RUNTIME)
+public @interface Fullname {
+  String message() default "한글/영문 1-20자 이내로 작성해주세요";
+
+  Class<?>[] groups() default {};
+
+  Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,28 @@
+package shop.mtcoding.bank.dto.valid;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+/**
+ * username 형식: 영문, 숫자 가능, 공백 X, 길이 2-20
+ * = @Pattern(regexp = "^[a-zA-Z0-9]{2,20}$") 와 같은 결과 (null은 통과, @NotEmpty와 함께 사용)
+ */
+@Documented
+@Constraint(validatedBy = UsernameValidator.class)
+@Target({ FIELD, PARAMETER })
+@Retention(RUNTIME)
+public @interface Username {
+  String message() default "영문/숫자 2-20자 이내로 작성해주세요";
+
+  Class<?>[] groups() default {};
+
+  Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,13 @@
+package shop.mtcoding.bank.dto.valid;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class UsernameValidator implements ConstraintValidator<Username, String> {
+
+  @Override
+  public boolean isValid(String value, ConstraintValidatorContext context) {
+    if (value == null) return true; // @Pattern과 동일: null 검사는 @NotEmpty 담당
+    return CharClass.matchesAlphaNumeric(value, 2, 20);
+  }
+}
@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import shop.mtcoding.bank.dto.ResponseDto;
 import shop.mtcoding.bank.handler.ex.CustomApiException;
+import shop.mtcoding.bank.handler.ex.CustomOverloadException;
 import shop.mtcoding.bank.handler.ex.CustomValidationException;
 
 @RestControllerAdvice
@@ -41,4 +42,12 @@ public class CustomExceptionHandler {
 
     return new ResponseEntity<>(new ResponseDto<>(-1, e.getMessage(), e.getErrorMap()), HttpStatus.BAD_REQUEST);
   }
+
+  // 동시 실행 제한 초과 (DB 지연 시 빠른 거절)
+  @ExceptionHandler(CustomOverloadException.class)
+  public ResponseEntity<?> overloadException(CustomOverloadException e) {
+    log.warn(e.getMessage());
+
+    return new ResponseEntity<>(new ResponseDto<>(-1, e.getMessage(), null), HttpStatus.SERVICE_UNAVAILABLE);
+  }
 }
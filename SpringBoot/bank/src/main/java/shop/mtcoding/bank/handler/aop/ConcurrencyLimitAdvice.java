@@ -0,0 +1,81 @@
+package shop.mtcoding.bank.handler.aop;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import shop.mtcoding.bank.dto.ResponseDto;
+import shop.mtcoding.bank.handler.ex.CustomOverloadException;
+import shop.mtcoding.bank.util.AdaptiveConcurrencyLimiter;
+
+/**
+ * 서비스 메서드별 적응형 동시 실행 제한
+ * DB가 느려지면 limit이 줄어들고, 초과 요청은 커넥션 풀에서 기다리지 않고 바로 503으로 거절된다.
+ * @Transactional 보다 바깥에서 실행되어야 커넥션을 잡기 전에 거절할 수 있다. (HIGHEST_PRECEDENCE)
+ * HTTP 요청을 처리하는 스레드에서 부른 호출만 제한한다. (스냅샷, 사가 복구, 대사 같은 배치 작업은 거절하지 않는다)
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "bank.limiter.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+@Aspect
+public class ConcurrencyLimitAdvice {
+  private final ConcurrentMap<Method, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+  private final int initialLimit;
+  private final int minLimit;
+  private final int maxLimit;
+
+  public ConcurrencyLimitAdvice(
+      @Value("${bank.limiter.initial-limit:20}") int initialLimit,
+      @Value("${bank.limiter.min-limit:4}") int minLimit,
+      @Value("${bank.limiter.max-limit:200}") int maxLimit) {
+    this.initialLimit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+  }
+
+  @Pointcut("execution(public * shop.mtcoding.bank.service..*Service.*(..))")
+  public void serviceMethod() {}
+
+  @Around("serviceMethod()")
+  public Object limitAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+    // 0. 요청 스레드가 아니면(@Scheduled, job 실행 스레드) 제한 없이 실행
+    if (RequestContextHolder.getRequestAttributes() == null) {
+      return proceedingJoinPoint.proceed();
+    }
+
+    Method method = ((MethodSignature) proceedingJoinPoint.getSignature()).getMethod();
+    AdaptiveConcurrencyLimiter limiter = limiters.computeIfAbsent(method,
+        m -> new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit));
+
+    // 1. 자리가 없으면 바로 거절
+    if (!limiter.tryAcquire()) {
+      throw new CustomOverloadException(ResponseDto.TOO_MANY_REQUESTS);
+    }
+
+    // 2. 실행 시간과 과부하성 실패를 limiter에 알려준다.
+    long start = System.nanoTime();
+    boolean dropped = false;
+    try {
+      return proceedingJoinPoint.proceed();
+    } catch (CannotCreateTransactionException | TransientDataAccessException e) {
+      dropped = true; // 커넥션 획득 실패, 쿼리 타임아웃 등
+      throw e;
+    } finally {
+      limiter.release(System.nanoTime() - start, dropped);
+    }
+  }
+}
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 
+import shop.mtcoding.bank.dto.ResponseDto;
 import shop.mtcoding.bank.handler.ex.CustomValidationException;
 
 @Component
@@ -28,6 +29,7 @@ public class CustomValidationAdvice {
   // 1. @PostMapping이나 @putMapping 이 존재하는 메소드에서 
   public Object validationAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
     Object[] args = proceedingJoinPoint.getArgs(); // 조인 포인트의 매개변수
+    // @Valid 검증은 이미 끝난 상태 (VALIDATION 구간은 ProfilingValidator에서 측정)
 
     for (Object arg : args) {
       // 2. 매개변수에 BindingResult가 있고, 
@@ -42,7 +44,7 @@ public class CustomValidationAdvice {
             errorMap.put(error.getField(), error.getDefaultMessage());
           }
           // 4. 유효성 검사 실패 에러 던짐
-          throw new CustomValidationException("유효성 검사 실패", errorMap);
+          throw new CustomValidationException(ResponseDto.VALIDATION_FAILED, errorMap);
         }
       }
     }
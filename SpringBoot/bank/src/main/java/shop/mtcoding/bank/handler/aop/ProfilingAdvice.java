@@ -0,0 +1,46 @@
+package shop.mtcoding.bank.handler.aop;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import shop.mtcoding.bank.handler.profile.Stage;
+import shop.mtcoding.bank.handler.profile.StageTimer;
+
+/**
+ * 리포지토리 호출, 비밀번호 암호화/비교 시간을 요청 프로파일에 누적
+ * (프로파일러가 꺼져 있으면 이 Aspect 자체가 없어서 프록시도 생기지 않는다.)
+ */
+@ConditionalOnProperty(name = "bank.profiler.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+@Aspect
+public class ProfilingAdvice {
+
+  @Pointcut("execution(* org.springframework.data.repository.Repository+.*(..))")
+  public void repositoryMethod() {}
+
+  @Pointcut("execution(* org.springframework.security.crypto.password.PasswordEncoder+.*(..))")
+  public void passwordEncoderMethod() {}
+
+  @Around("repositoryMethod()")
+  public Object repositoryAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+    return proceed(proceedingJoinPoint, Stage.REPOSITORY);
+  }
+
+  @Around("passwordEncoderMethod()")
+  public Object passwordEncoderAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+    return proceed(proceedingJoinPoint, Stage.BCRYPT);
+  }
+
+  private Object proceed(ProceedingJoinPoint proceedingJoinPoint, Stage stage) throws Throwable {
+    StageTimer timer = StageTimer.start(stage);
+    try {
+      return proceedingJoinPoint.proceed();
+    } finally {
+      timer.stop();
+    }
+  }
+}
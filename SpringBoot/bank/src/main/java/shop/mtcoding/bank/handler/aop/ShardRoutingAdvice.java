@@ -0,0 +1,89 @@
+package shop.mtcoding.bank.handler.aop;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import shop.mtcoding.bank.config.shard.ShardContext;
+import shop.mtcoding.bank.config.shard.ShardKey;
+
+/**
+ * @ShardKey 파라미터로 샤드를 정해서 서비스 메서드를 실행
+ * @Transactional 보다 먼저 실행되어야 트랜잭션 커넥션이 해당 샤드에서 잡힌다. (ConcurrencyLimitAdvice 다음)
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Profile("shard")
+@Component
+@Aspect
+public class ShardRoutingAdvice {
+  private static final int NO_KEY = -1;
+
+  private final ConcurrentMap<Method, Integer> keyIndexes = new ConcurrentHashMap<>();
+  private final int shardCount;
+
+  public ShardRoutingAdvice(@Value("${bank.shard.count}") int shardCount) {
+    this.shardCount = shardCount;
+  }
+
+  @Pointcut("execution(public * shop.mtcoding.bank.service..*Service.*(..))")
+  public void serviceMethod() {}
+
+  @Around("serviceMethod()")
+  public Object routingAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+    Method method = ((MethodSignature) proceedingJoinPoint.getSignature()).getMethod();
+    int keyIndex = keyIndexes.computeIfAbsent(method, ShardRoutingAdvice::findKeyIndex);
+
+    // 1. @ShardKey가 없으면 현재 샤드 그대로 (기본 0번)
+    if (keyIndex == NO_KEY) {
+      return proceedingJoinPoint.proceed();
+    }
+
+    // 2. 키로 샤드를 정해서 실행
+    int shard = shardOf(proceedingJoinPoint.getArgs()[keyIndex]);
+    return ShardContext.call(shard, () -> {
+      try {
+        return proceedingJoinPoint.proceed();
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new IllegalStateException(e);
+      }
+    });
+  }
+
+  private int shardOf(Object key) {
+    if (key instanceof Long id) {
+      return ShardContext.shardOf(id, shardCount);
+    }
+    if (key instanceof String username) {
+      return ShardContext.shardOf(username, shardCount);
+    }
+    Object username = PropertyAccessorFactory.forBeanPropertyAccess(key).getPropertyValue("username");
+    return ShardContext.shardOf((String) username, shardCount);
+  }
+
+  private static int findKeyIndex(Method method) {
+    Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+    for (int i = 0; i < parameterAnnotations.length; i++) {
+      for (Annotation annotation : parameterAnnotations[i]) {
+        if (annotation instanceof ShardKey) {
+          return i;
+        }
+      }
+    }
+    return NO_KEY;
+  }
+}
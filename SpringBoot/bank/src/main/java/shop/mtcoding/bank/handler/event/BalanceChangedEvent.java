@@ -0,0 +1,25 @@
+package shop.mtcoding.bank.handler.event;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 계좌 잔액 변경 이벤트 (입금/출금/이체 후 ApplicationEventPublisher로 발행)
+ * 커밋된 뒤에만 SSE 구독자에게 전달된다.
+ */
+@ToString
+@Getter
+@AllArgsConstructor
+public class BalanceChangedEvent {
+  private Long userId; // 계좌 주인
+  private Long accountId;
+  private Long number;
+  private Long balance; // 거래 후 잔액
+  private Long transactionId;
+  private String gubun; // 출금, 입금, 이체
+  private Long amount;
+  private LocalDateTime createdAt;
+}
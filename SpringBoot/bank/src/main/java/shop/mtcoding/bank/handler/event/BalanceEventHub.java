@@ -0,0 +1,262 @@
+package shop.mtcoding.bank.handler.event;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import jakarta.annotation.PreDestroy;
+import shop.mtcoding.bank.handler.ex.CustomApiException;
+
+/**
+ * 잔액 변경 SSE fan-out 허브
+ *
+ * - 커밋 후(AFTER_COMMIT) 이벤트만 계좌 주인의 구독자들에게 보낸다.
+ * - 구독자마다 최대 MAX_PENDING 개의 FIFO 버퍼를 둔다. 거래 이벤트는 합치지 않고 순서대로 모두 보낸다.
+ *   느린 구독자는 버퍼가 넘치면 가장 오래된 것을 버리고, 다음 전송 때 "dropped" 이벤트(버린 개수)를 먼저 보낸다.
+ *   (클라이언트는 이걸 받으면 거래내역을 한 번 다시 조회한다. 이벤트마다 최신 잔액이 들어있으므로 잔액은 맞다.)
+ * - 전송은 공용 스레드풀에서 구독자당 한 번에 하나의 drain 작업으로만 한다. (ping도 같은 drain으로)
+ *   한 번의 전송이 SEND_TIMEOUT_MILLIS를 넘기면 watchdog이 그 구독자를 끊는다.
+ *   막힌 스레드는 Tomcat 쓰기 타임아웃에 풀리고, 그 사이 다른 구독자는 남은 스레드로 계속 받는다.
+ * - 대기 중인 연결은 스레드를 잡지 않으므로(비동기 서블릿) 수천 개여도 메모리만 조금 쓴다.
+ */
+@Component
+public class BalanceEventHub {
+  private static final long TIMEOUT_MILLIS = 30 * 60 * 1000L; // 30분 후 클라이언트가 재연결
+  private static final long SEND_TIMEOUT_MILLIS = 5_000L;
+  private static final int MAX_PENDING = 32;
+  private static final int MAX_SUBSCRIPTIONS_PER_USER = 5;
+  private static final int MAX_SENDERS = 16;
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+  private final ConcurrentMap<Long, Set<Subscriber>> subscribersByUser = new ConcurrentHashMap<>();
+  private final ThreadPoolExecutor sender = newSender();
+  private final AtomicLong droppedCount = new AtomicLong();
+
+  public SseEmitter subscribe(Long userId) {
+    SseEmitter emitter = newEmitter();
+    Subscriber subscriber = new Subscriber(userId, emitter);
+
+    // 개수 확인과 추가를 같은 compute 안에서 한다. (unsubscribe의 computeIfPresent와 같은 키 락)
+    subscribersByUser.compute(userId, (id, subscribers) -> {
+      if (subscribers == null) {
+        subscribers = ConcurrentHashMap.newKeySet();
+      }
+      if (subscribers.size() >= MAX_SUBSCRIPTIONS_PER_USER) {
+        throw new CustomApiException("동시에 구독할 수 있는 연결 수를 초과했습니다.");
+      }
+      subscribers.add(subscriber);
+      return subscribers;
+    });
+
+    emitter.onCompletion(() -> unsubscribe(subscriber));
+    emitter.onTimeout(() -> unsubscribe(subscriber));
+    emitter.onError(e -> unsubscribe(subscriber));
+    return emitter;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true) // 기본 AFTER_COMMIT, 트랜잭션 밖에서 발행돼도 전달
+  public void onBalanceChanged(BalanceChangedEvent event) {
+    for (Subscriber subscriber : subscribersOf(event.getUserId())) {
+      subscriber.offer(event);
+    }
+  }
+
+  // 끊어진 연결 정리 + 프록시/로드밸런서 idle timeout 방지
+  @Scheduled(fixedDelay = 25_000)
+  public void heartbeat() {
+    for (Set<Subscriber> subscribers : subscribersByUser.values()) {
+      for (Subscriber subscriber : subscribers) {
+        subscriber.requestPing();
+      }
+    }
+  }
+
+  @Scheduled(fixedDelay = 1_000)
+  public void evictStalledSenders() {
+    evictStalled(System.currentTimeMillis());
+  }
+
+  public long getDroppedCount() {
+    return droppedCount.get();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    sender.shutdownNow();
+  }
+
+  SseEmitter newEmitter() {
+    return new SseEmitter(TIMEOUT_MILLIS);
+  }
+
+  int getSubscriberCount(Long userId) {
+    return subscribersOf(userId).size();
+  }
+
+  void evictStalled(long now) {
+    for (Set<Subscriber> subscribers : subscribersByUser.values()) {
+      for (Subscriber subscriber : subscribers) {
+        if (subscriber.stalled(now)) {
+          log.debug("디버그: SSE 전송 지연, 구독 해제 - userId " + subscriber.userId);
+          subscriber.close(new TimeoutException("SSE 전송이 " + SEND_TIMEOUT_MILLIS + "ms 안에 끝나지 않았습니다."));
+        }
+      }
+    }
+  }
+
+  private Set<Subscriber> subscribersOf(Long userId) {
+    Set<Subscriber> subscribers = subscribersByUser.get(userId);
+    return subscribers == null ? Collections.emptySet() : subscribers;
+  }
+
+  private void unsubscribe(Subscriber subscriber) {
+    subscribersByUser.computeIfPresent(subscriber.userId, (id, subscribers) -> {
+      subscribers.remove(subscriber);
+      return subscribers.isEmpty() ? null : subscribers;
+    });
+  }
+
+  // 쉬는 스레드는 사라지고, 막힌 구독자가 몇 개 있어도 나머지가 쓸 스레드가 남도록 MAX_SENDERS까지 늘어난다.
+  private static ThreadPoolExecutor newSender() {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_SENDERS, MAX_SENDERS, 60, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(), r -> {
+          Thread thread = new Thread(r, "sse-sender");
+          thread.setDaemon(true);
+          return thread;
+        });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private class Subscriber {
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final ArrayDeque<BalanceChangedEvent> pending = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private volatile long sendStartedAt; // 0이면 전송 중이 아님
+    private boolean pingRequested; // pending 락 안에서만
+    private int dropped; // pending 락 안에서만
+
+    Subscriber(Long userId, SseEmitter emitter) {
+      this.userId = userId;
+      this.emitter = emitter;
+    }
+
+    void offer(BalanceChangedEvent event) {
+      if (closed.get()) return;
+      synchronized (pending) {
+        if (pending.size() >= MAX_PENDING) {
+          pending.pollFirst();
+          dropped++;
+          droppedCount.incrementAndGet();
+        }
+        pending.addLast(event);
+      }
+      scheduleDrain();
+    }
+
+    void requestPing() {
+      if (closed.get()) return;
+      synchronized (pending) {
+        pingRequested = true;
+      }
+      scheduleDrain();
+    }
+
+    boolean stalled(long now) {
+      long startedAt = sendStartedAt;
+      return startedAt != 0 && now - startedAt > SEND_TIMEOUT_MILLIS;
+    }
+
+    // 전송 중인 스레드는 emitter 락을 잡고 있으므로, 전송 중이면 완료 처리는 그 스레드가 끝나면서 한다.
+    void close(Throwable cause) {
+      if (!closed.compareAndSet(false, true)) return;
+      unsubscribe(this);
+      synchronized (pending) {
+        pending.clear();
+      }
+      if (sendStartedAt == 0) {
+        complete(cause);
+      }
+    }
+
+    private void scheduleDrain() {
+      if (draining.compareAndSet(false, true)) {
+        sender.execute(this::drain);
+      }
+    }
+
+    // pending이 비었음을 확인하고 draining=false로 바꾸는 것을 같은 락 안에서 하므로 이벤트를 놓치지 않는다.
+    private void drain() {
+      try {
+        while (!closed.get()) {
+          List<BalanceChangedEvent> batch;
+          boolean ping;
+          int droppedNow;
+          synchronized (pending) {
+            if (pending.isEmpty() && !pingRequested) {
+              draining.set(false);
+              return;
+            }
+            batch = new ArrayList<>(pending);
+            pending.clear();
+            ping = pingRequested;
+            pingRequested = false;
+            droppedNow = dropped;
+            dropped = 0;
+          }
+          if (droppedNow > 0) {
+            send(SseEmitter.event().name("dropped").data(droppedNow));
+          }
+          for (BalanceChangedEvent event : batch) {
+            send(SseEmitter.event().name("balance").data(event));
+          }
+          if (ping && batch.isEmpty()) {
+            send(SseEmitter.event().comment("ping"));
+          }
+        }
+        complete(new TimeoutException("SSE 전송 지연으로 구독이 해제되었습니다."));
+      } catch (IOException | IllegalStateException e) {
+        log.debug("디버그: SSE 전송 실패, 구독 해제 - userId " + userId);
+        close(e);
+        complete(e);
+      }
+    }
+
+    private void send(SseEventBuilder event) throws IOException {
+      sendStartedAt = System.currentTimeMillis();
+      try {
+        emitter.send(event);
+      } finally {
+        sendStartedAt = 0;
+      }
+    }
+
+    private void complete(Throwable cause) {
+      if (completed.compareAndSet(false, true)) {
+        emitter.completeWithError(cause);
+      }
+    }
+  }
+}
@@ -0,0 +1,8 @@
+package shop.mtcoding.bank.handler.ex;
+
+// 동시 실행 제한 초과: 대기하지 않고 바로 503 응답
+public class CustomOverloadException extends RuntimeException {
+  public CustomOverloadException(String message) {
+    super(message);
+  }
+}
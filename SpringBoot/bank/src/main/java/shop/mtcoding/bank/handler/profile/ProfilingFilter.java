@@ -0,0 +1,82 @@
+package shop.mtcoding.bank.handler.profile;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청별 구간 프로파일링 (시큐리티 필터 체인보다 바깥에서 실행)
+ * 
+ * - sample-every 요청 중 1개만 측정, 나머지는 ThreadLocal이 비어있어 구간 측정이 전부 noop
+ * - 측정한 요청은 JFR RequestEvent/StageEvent로 남기고 (녹화 중일 때만), slow-threshold-ms 이상이면 SlowRequestRing에 보관
+ * - bank.profiler.enabled=false 면 필터/AOP/Jackson 컨버터가 등록되지 않는다.
+ */
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+@ConditionalOnProperty(name = "bank.profiler.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class ProfilingFilter extends OncePerRequestFilter {
+  private final SlowRequestRing slowRequestRing;
+  private final int sampleEvery;
+  private final long slowThresholdNanos;
+
+  public ProfilingFilter(SlowRequestRing slowRequestRing,
+      @Value("${bank.profiler.sample-every:1}") int sampleEvery,
+      @Value("${bank.profiler.slow-threshold-ms:500}") long slowThresholdMs) {
+    this.slowRequestRing = slowRequestRing;
+    this.sampleEvery = sampleEvery;
+    this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    // 1. 샘플링에서 빠진 요청은 그대로 통과
+    if (sampleEvery > 1 && ThreadLocalRandom.current().nextInt(sampleEvery) != 0) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    // 2. 측정 시작 (SECURITY 구간은 SecurityStageFilter에서 끝난다)
+    RequestEvent event = new RequestEvent();
+    event.begin();
+    RequestProfile profile = RequestProfile.start(request.getMethod(), request.getRequestURI());
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      profile.finish();
+      RequestProfile.clear();
+      long totalNanos = System.nanoTime() - profile.getStartNanos();
+
+      // 3. JFR 요청 이벤트
+      event.end();
+      if (event.shouldCommit()) {
+        event.method = profile.getMethod();
+        event.uri = profile.getUri();
+        event.status = response.getStatus();
+        event.security = profile.getNanos(Stage.SECURITY);
+        event.validation = profile.getNanos(Stage.VALIDATION);
+        event.bcrypt = profile.getNanos(Stage.BCRYPT);
+        event.repository = profile.getNanos(Stage.REPOSITORY);
+        event.jackson = profile.getNanos(Stage.JACKSON);
+        event.commit();
+      }
+
+      // 4. 느린 요청 보관
+      if (totalNanos >= slowThresholdNanos) {
+        slowRequestRing.add(new SlowRequest(profile, response.getStatus(), totalNanos));
+      }
+    }
+  }
+}
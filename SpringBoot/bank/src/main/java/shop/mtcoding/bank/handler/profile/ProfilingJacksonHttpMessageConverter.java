@@ -0,0 +1,45 @@
+package shop.mtcoding.bank.handler.profile;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 요청 body 읽기, 응답 body 쓰기를 JACKSON 구간으로 측정
+ * MappingJackson2HttpMessageConverter 하위 타입 빈이 있으면 스프링 부트가 기본 컨버터 대신 사용한다.
+ */
+public class ProfilingJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+  public ProfilingJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+    super(objectMapper);
+  }
+
+  @Override
+  public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+      throws IOException, HttpMessageNotReadableException {
+    StageTimer timer = StageTimer.start(Stage.JACKSON);
+    try {
+      return super.read(type, contextClass, inputMessage);
+    } finally {
+      timer.stop();
+    }
+  }
+
+  @Override
+  protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+      throws IOException, HttpMessageNotWritableException {
+    StageTimer timer = StageTimer.start(Stage.JACKSON);
+    try {
+      super.writeInternal(object, type, outputMessage);
+    } finally {
+      timer.stop();
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package shop.mtcoding.bank.handler.profile;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * @Valid 빈 검증을 VALIDATION 구간으로 측정
+ * 검증은 컨트롤러 인자를 만들 때(argument resolver) 일어나므로 CustomValidationAdvice보다 먼저 끝난다.
+ * ProfilerConfig에서 스프링 MVC 검증기를 이것으로 감싼다.
+ */
+public class ProfilingValidator implements SmartValidator {
+  private final SmartValidator delegate;
+
+  public ProfilingValidator(SmartValidator delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public boolean supports(Class<?> clazz) {
+    return delegate.supports(clazz);
+  }
+
+  @Override
+  public void validate(Object target, Errors errors) {
+    StageTimer timer = StageTimer.start(Stage.VALIDATION);
+    try {
+      delegate.validate(target, errors);
+    } finally {
+      timer.stop();
+    }
+  }
+
+  @Override
+  public void validate(Object target, Errors errors, Object... validationHints) {
+    StageTimer timer = StageTimer.start(Stage.VALIDATION);
+    try {
+      delegate.validate(target, errors, validationHints);
+    } finally {
+      timer.stop();
+    }
+  }
+
+  @Override
+  public void validateValue(Class<?> targetType, String fieldName, Object value, Errors errors,
+      Object... validationHints) {
+    StageTimer timer = StageTimer.start(Stage.VALIDATION);
+    try {
+      delegate.validateValue(targetType, fieldName, value, errors, validationHints);
+    } finally {
+      timer.stop();
+    }
+  }
+
+  // 메소드 검증(@Validated)은 jakarta Validator를 꺼내서 쓰므로 그대로 넘긴다.
+  @Override
+  public <T> T unwrap(Class<T> type) {
+    return delegate.unwrap(type);
+  }
+}
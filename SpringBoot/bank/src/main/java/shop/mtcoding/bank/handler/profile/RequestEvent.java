@@ -0,0 +1,45 @@
+package shop.mtcoding.bank.handler.profile;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 요청 하나의 JFR 이벤트 (구간별 합계 포함)
+ */
+@Name("shop.mtcoding.bank.Request")
+@Label("Request")
+@Category({ "Bank", "Request" })
+@StackTrace(false)
+public class RequestEvent extends jdk.jfr.Event {
+  @Label("Method")
+  String method;
+
+  @Label("URI")
+  String uri;
+
+  @Label("Status")
+  int status;
+
+  @Label("Security")
+  @Timespan
+  long security;
+
+  @Label("Validation")
+  @Timespan
+  long validation;
+
+  @Label("BCrypt")
+  @Timespan
+  long bcrypt;
+
+  @Label("Repository")
+  @Timespan
+  long repository;
+
+  @Label("Jackson")
+  @Timespan
+  long jackson;
+}
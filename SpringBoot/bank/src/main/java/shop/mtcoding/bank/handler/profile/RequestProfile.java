@@ -0,0 +1,64 @@
+package shop.mtcoding.bank.handler.profile;
+
+/**
+ * 요청 하나의 구간별 누적 시간 (요청 스레드의 ThreadLocal에 보관)
+ * ProfilingFilter가 켜져 있지 않거나 샘플링에서 빠진 요청은 current()가 null → 모든 측정이 noop
+ */
+public class RequestProfile {
+  private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+
+  private final String method;
+  private final String uri;
+  private final long startNanos = System.nanoTime();
+  private final long[] stageNanos = new long[Stage.values().length];
+  private final StageTimer securityTimer;
+
+  private RequestProfile(String method, String uri) {
+    this.method = method;
+    this.uri = uri;
+    this.securityTimer = new StageTimer(this, Stage.SECURITY);
+  }
+
+  public static RequestProfile current() {
+    return CURRENT.get();
+  }
+
+  static RequestProfile start(String method, String uri) {
+    RequestProfile profile = new RequestProfile(method, uri);
+    CURRENT.set(profile);
+    return profile;
+  }
+
+  static void clear() {
+    CURRENT.remove();
+  }
+
+  // 시큐리티 필터 체인을 통과한 시점 (인증 실패로 중간에 끝나면 finish에서 마감)
+  void securityPassed() {
+    securityTimer.stop();
+  }
+
+  void finish() {
+    securityTimer.stop();
+  }
+
+  void add(Stage stage, long nanos) {
+    stageNanos[stage.ordinal()] += nanos;
+  }
+
+  public long getNanos(Stage stage) {
+    return stageNanos[stage.ordinal()];
+  }
+
+  public long getStartNanos() {
+    return startNanos;
+  }
+
+  public String getMethod() {
+    return method;
+  }
+
+  public String getUri() {
+    return uri;
+  }
+}
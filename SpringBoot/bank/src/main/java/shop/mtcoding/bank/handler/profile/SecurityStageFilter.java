@@ -0,0 +1,27 @@
+package shop.mtcoding.bank.handler.profile;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.GenericFilterBean;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+
+/**
+ * 시큐리티 필터 체인 맨 끝에 등록 → 여기까지 왔으면 SECURITY 구간 종료
+ * 빈으로 등록하면 서블릿 필터로도 한 번 더 등록되므로 SecurityConfig에서 new 로 만든다.
+ */
+public class SecurityStageFilter extends GenericFilterBean {
+
+  @Override
+  public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+      throws IOException, ServletException {
+    RequestProfile profile = RequestProfile.current();
+    if (profile != null) {
+      profile.securityPassed();
+    }
+    chain.doFilter(request, response);
+  }
+}
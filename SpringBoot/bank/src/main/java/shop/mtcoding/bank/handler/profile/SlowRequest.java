@@ -0,0 +1,31 @@
+package shop.mtcoding.bank.handler.profile;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+
+@Getter
+public class SlowRequest {
+  private final String method;
+  private final String uri;
+  private final int status;
+  private final long totalNanos;
+  private final long[] stageNanos;
+  private final LocalDateTime createdAt;
+
+  public SlowRequest(RequestProfile profile, int status, long totalNanos) {
+    this.method = profile.getMethod();
+    this.uri = profile.getUri();
+    this.status = status;
+    this.totalNanos = totalNanos;
+    this.stageNanos = new long[Stage.values().length];
+    for (Stage stage : Stage.values()) {
+      this.stageNanos[stage.ordinal()] = profile.getNanos(stage);
+    }
+    this.createdAt = LocalDateTime.now();
+  }
+
+  public long getNanos(Stage stage) {
+    return stageNanos[stage.ordinal()];
+  }
+}
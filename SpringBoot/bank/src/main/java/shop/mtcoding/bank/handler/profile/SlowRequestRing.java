@@ -0,0 +1,42 @@
+package shop.mtcoding.bank.handler.profile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 느린 요청 N개를 보관하는 고정 크기 링 (오래된 것부터 덮어씀)
+ * 락 없이 자리만 예약해서 쓰기 때문에 동시에 쓰는 순간에는 순서가 약간 어긋날 수 있다. (조회용이라 허용)
+ */
+@Component
+public class SlowRequestRing {
+  private final AtomicReferenceArray<SlowRequest> slots;
+  private final AtomicLong sequence = new AtomicLong();
+
+  public SlowRequestRing(@Value("${bank.profiler.ring-size:128}") int size) {
+    this.slots = new AtomicReferenceArray<>(size);
+  }
+
+  public void add(SlowRequest slowRequest) {
+    long seq = sequence.getAndIncrement();
+    slots.set((int) (seq % slots.length()), slowRequest);
+  }
+
+  // 최신순
+  public List<SlowRequest> snapshot() {
+    long end = sequence.get();
+    long begin = Math.max(0, end - slots.length());
+    List<SlowRequest> slowRequests = new ArrayList<>();
+    for (long seq = end - 1; seq >= begin; seq--) {
+      SlowRequest slowRequest = slots.get((int) (seq % slots.length()));
+      if (slowRequest != null) {
+        slowRequests.add(slowRequest);
+      }
+    }
+    return slowRequests;
+  }
+}
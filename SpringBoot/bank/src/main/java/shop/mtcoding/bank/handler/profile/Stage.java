@@ -0,0 +1,12 @@
+package shop.mtcoding.bank.handler.profile;
+
+/**
+ * 요청 처리 구간
+ */
+public enum Stage {
+  SECURITY, // 시큐리티 필터 체인 (프로파일링 필터 ~ AuthorizationFilter 통과)
+  VALIDATION, // @Valid 빈 검증 (ProfilingValidator)
+  BCRYPT, // 비밀번호 암호화/비교
+  REPOSITORY, // Spring Data 리포지토리 호출
+  JACKSON // 요청 body 읽기 + 응답 body 쓰기
+}
@@ -0,0 +1,25 @@
+package shop.mtcoding.bank.handler.profile;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 구간 하나의 JFR 이벤트 (JMC나 jfr print --events shop.mtcoding.bank.Stage 로 확인)
+ * 직접 만든 이벤트는 기본으로 켜져 있고(@Enabled 기본값 true, threshold 0) .jfc에 없어도 기록되므로
+ * -XX:StartFlightRecording 만 주면 된다. 끄거나 threshold를 두려면 .jfc에 shop.mtcoding.bank.Stage 항목을 추가한다.
+ */
+@Name("shop.mtcoding.bank.Stage")
+@Label("Request Stage")
+@Description("요청 처리 구간별 소요 시간")
+@Category({ "Bank", "Request" })
+@StackTrace(false)
+public class StageEvent extends jdk.jfr.Event {
+  @Label("Stage")
+  String stage;
+
+  @Label("URI")
+  String uri;
+}
@@ -0,0 +1,57 @@
+package shop.mtcoding.bank.handler.profile;
+
+/**
+ * 구간 측정
+ * 
+ * StageTimer timer = StageTimer.start(Stage.BCRYPT);
+ * try { ... } finally { timer.stop(); }
+ */
+public class StageTimer {
+  private static final StageTimer NOOP = new StageTimer();
+
+  private final RequestProfile profile;
+  private final Stage stage;
+  private final long startNanos;
+  private final StageEvent event;
+  private boolean stopped;
+
+  private StageTimer() {
+    this.profile = null;
+    this.stage = null;
+    this.startNanos = 0;
+    this.event = null;
+    this.stopped = true;
+  }
+
+  StageTimer(RequestProfile profile, Stage stage) {
+    this.profile = profile;
+    this.stage = stage;
+    this.event = new StageEvent();
+    this.event.begin();
+    this.startNanos = System.nanoTime();
+  }
+
+  public static StageTimer start(Stage stage) {
+    RequestProfile profile = RequestProfile.current();
+    if (profile == null) {
+      return NOOP; // 프로파일링 대상이 아닌 요청: 할당 없음
+    }
+    return new StageTimer(profile, stage);
+  }
+
+  public void stop() {
+    if (stopped) {
+      return;
+    }
+    stopped = true;
+    profile.add(stage, System.nanoTime() - startNanos);
+
+    // JFR 녹화 중이고 이 이벤트가 켜져 있을 때만 기록
+    event.end();
+    if (event.shouldCommit()) {
+      event.stage = stage.name();
+      event.uri = profile.getUri();
+      event.commit();
+    }
+  }
+}
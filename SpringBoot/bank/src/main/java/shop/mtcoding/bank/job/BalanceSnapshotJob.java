@@ -0,0 +1,46 @@
+package shop.mtcoding.bank.job;
+
+import java.time.LocalDate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import shop.mtcoding.bank.config.shard.ShardContext;
+import shop.mtcoding.bank.service.AccountSnapshotService;
+
+/**
+ * 매일 0시 5분, 전날 거래내역으로 계좌별 일말 잔액 스냅샷을 만든다.
+ * 계좌 CHUNK 단위로 트랜잭션을 나눠서 영속성 컨텍스트가 커지지 않게 한다.
+ * 스냅샷은 계좌와 같은 샤드에 저장하므로 샤드마다 따로 돈다. (계좌 id 커서도 샤드별)
+ */
+@Component
+public class BalanceSnapshotJob {
+  private final Logger log = LoggerFactory.getLogger(getClass());
+  private final AccountSnapshotService accountSnapshotService;
+  private final int shardCount;
+
+  public BalanceSnapshotJob(AccountSnapshotService accountSnapshotService,
+      @Value("${bank.shard.count:1}") int shardCount) {
+    this.accountSnapshotService = accountSnapshotService;
+    this.shardCount = shardCount;
+  }
+
+  @Scheduled(cron = "${bank.snapshot.cron:0 5 0 * * *}")
+  public void run() {
+    LocalDate yesterday = LocalDate.now().minusDays(1);
+    log.debug("디버그: " + yesterday + " 일말 잔액 스냅샷 생성 시작");
+
+    for (int shard = 0; shard < shardCount; shard++) {
+      ShardContext.run(shard, () -> {
+        Long lastId = 0L;
+        while (lastId != null) {
+          lastId = accountSnapshotService.일말스냅샷생성(yesterday, lastId);
+        }
+      });
+    }
+    log.debug("디버그: " + yesterday + " 일말 잔액 스냅샷 생성 완료");
+  }
+}
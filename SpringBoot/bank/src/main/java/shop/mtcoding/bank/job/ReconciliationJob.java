@@ -0,0 +1,294 @@
+package shop.mtcoding.bank.job;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import shop.mtcoding.bank.config.shard.ShardContext;
+import shop.mtcoding.bank.domain.account.AccountLedgerSum;
+import shop.mtcoding.bank.domain.account.AccountRepository;
+import shop.mtcoding.bank.domain.reconciliation.ReconciliationChunk;
+import shop.mtcoding.bank.domain.reconciliation.ReconciliationChunkRepository;
+import shop.mtcoding.bank.domain.reconciliation.ReconciliationDiscrepancy;
+import shop.mtcoding.bank.domain.reconciliation.ReconciliationDiscrepancyRepository;
+import shop.mtcoding.bank.domain.reconciliation.ReconciliationRun;
+import shop.mtcoding.bank.domain.reconciliation.ReconciliationRunEnum;
+import shop.mtcoding.bank.domain.reconciliation.ReconciliationRunRepository;
+import shop.mtcoding.bank.dto.reconciliation.ReconciliationResDto.RunResDto;
+import shop.mtcoding.bank.handler.ex.CustomApiException;
+
+/**
+ * 원장 대사(reconciliation) 작업
+ * account.balance == 개설 잔액(account.openingBalance) + 입금합계 - 출금합계 인지 모든 계좌를 검사한다.
+ * 
+ * 1. 처음 시작할 때 샤드마다 account id 범위와 chunkSize를 runId별 계획으로 저장한다. (재개해도 구간 경계가 같다)
+ * 2. 모든 샤드의 구간들을 ForkJoinPool에서 병렬로 처리한다. (구간마다 그 샤드에서 스트리밍 집계 쿼리)
+ * 3. 불일치 계좌와 완료 구간 기록은 0번 샤드에 같은 트랜잭션으로 저장 → 같은 runId로 다시 실행하면 완료 구간은 건너뛴다.
+ * 
+ * start()는 백그라운드 스레드에서 실행하고 바로 반환한다. 진행 상황은 status()로 조회.
+ * 병렬도는 커넥션 풀 크기(Hikari 기본 10)를 넘지 않게 설정해야 한다.
+ */
+@Component
+public class ReconciliationJob {
+  private static final int CONTROL_SHARD = 0; // 실행 기록, 완료 구간, 불일치 기록을 두는 샤드
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+
+  private final AccountRepository accountRepository;
+  private final ReconciliationRunRepository runRepository;
+  private final ReconciliationChunkRepository chunkRepository;
+  private final ReconciliationDiscrepancyRepository discrepancyRepository;
+  private final TransactionTemplate chunkTransaction;
+  private final TransactionTemplate readTransaction;
+  private final long chunkSize;
+  private final int parallelism;
+  private final int shardCount;
+  private final Set<String> runningRunIds = ConcurrentHashMap.newKeySet();
+  private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> {
+    Thread thread = new Thread(r, "reconciliation");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  public ReconciliationJob(AccountRepository accountRepository,
+      ReconciliationRunRepository runRepository,
+      ReconciliationChunkRepository chunkRepository,
+      ReconciliationDiscrepancyRepository discrepancyRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${bank.reconciliation.chunk-size:10000}") long chunkSize,
+      @Value("${bank.reconciliation.parallelism:0}") int parallelism,
+      @Value("${bank.shard.count:1}") int shardCount) {
+    this.accountRepository = accountRepository;
+    this.runRepository = runRepository;
+    this.chunkRepository = chunkRepository;
+    this.discrepancyRepository = discrepancyRepository;
+    this.chunkTransaction = new TransactionTemplate(transactionManager);
+    this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.readTransaction = new TransactionTemplate(transactionManager);
+    this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.readTransaction.setReadOnly(true);
+    this.chunkSize = chunkSize;
+    this.parallelism = parallelism > 0 ? parallelism : Math.min(Runtime.getRuntime().availableProcessors(), 8);
+    this.shardCount = shardCount;
+  }
+
+  // 백그라운드로 시작 (같은 runId가 이미 진행 중이면 거절)
+  public RunResDto start(String runId) {
+    begin(runId);
+    try {
+      runner.execute(() -> reconcile(runId));
+    } catch (RejectedExecutionException e) {
+      runningRunIds.remove(runId);
+      throw e;
+    }
+    return status(runId);
+  }
+
+  // 현재 스레드에서 끝까지 실행
+  public RunResDto run(String runId) {
+    begin(runId);
+    reconcile(runId);
+    return status(runId);
+  }
+
+  public RunResDto status(String runId) {
+    return ShardContext.call(CONTROL_SHARD, () -> {
+      List<ReconciliationRun> runs = runRepository.findByRunIdOrderByShardAsc(runId);
+      if (runs.isEmpty()) {
+        throw new CustomApiException("원장 대사 기록이 없습니다.");
+      }
+
+      // 샤드별 계획은 같이 시작하고 같이 끝나므로 상태와 실행 시간은 같다.
+      ReconciliationRun first = runs.get(0);
+      long chunkCount = runs.stream().mapToLong(ReconciliationRun::getChunkCount).sum();
+      return new RunResDto(runId, first.getStatus().getValue(), chunkCount,
+          chunkRepository.countByRunId(runId), chunkRepository.sumAccountCountByRunId(runId),
+          discrepancyRepository.countByRunId(runId), first.getElapsedMillis());
+    });
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    runner.shutdownNow();
+  }
+
+  // 처음이면 샤드별 계획 저장, 재개면 저장된 계획 사용
+  private void begin(String runId) {
+    if (!runningRunIds.add(runId)) {
+      throw new CustomApiException("이미 진행 중인 원장 대사입니다.");
+    }
+    try {
+      List<ReconciliationRun> runs = ShardContext.call(CONTROL_SHARD,
+          () -> runRepository.findByRunIdOrderByShardAsc(runId));
+      if (runs.isEmpty()) {
+        runs = plan(runId);
+      }
+
+      List<ReconciliationRun> planned = runs;
+      ShardContext.run(CONTROL_SHARD, () -> chunkTransaction.executeWithoutResult(status -> {
+        for (ReconciliationRun run : planned) {
+          run.start();
+          runRepository.save(run);
+        }
+      }));
+    } catch (RuntimeException e) {
+      runningRunIds.remove(runId);
+      throw e;
+    }
+  }
+
+  // 샤드마다 id 범위 조회 (샤드 안의 id는 N 간격이므로 구간 폭을 N배로 잡아 구간당 계좌 수를 chunkSize로 맞춘다)
+  private List<ReconciliationRun> plan(String runId) {
+    List<ReconciliationRun> runs = new ArrayList<>();
+    for (int shard = 0; shard < shardCount; shard++) {
+      Long[] range = ShardContext.call(shard,
+          () -> new Long[] { accountRepository.findMinId(), accountRepository.findMaxId() });
+      runs.add(ReconciliationRun.builder()
+          .runId(runId)
+          .shard(shard)
+          .minId(range[0])
+          .maxId(range[1])
+          .chunkSize(chunkSize * shardCount)
+          .build());
+    }
+    return runs;
+  }
+
+  private void reconcile(String runId) {
+    long start = System.currentTimeMillis();
+    ReconciliationRunEnum result = ReconciliationRunEnum.FAILED;
+    try {
+      // 1. 저장된 샤드별 계획으로 구간 목록 (이미 완료된 구간 제외)
+      List<ReconciliationRun> runs = ShardContext.call(CONTROL_SHARD,
+          () -> runRepository.findByRunIdOrderByShardAsc(runId));
+      List<ReconciliationChunk> done = ShardContext.call(CONTROL_SHARD, () -> chunkRepository.findByRunId(runId));
+      Set<String> doneChunks = done.stream()
+          .map(chunk -> chunk.getShard() + ":" + chunk.getFromId())
+          .collect(Collectors.toSet());
+
+      List<long[]> chunks = new ArrayList<>(); // { 샤드, fromId, toId }
+      long chunkCount = 0;
+      for (ReconciliationRun run : runs) {
+        chunkCount += run.getChunkCount();
+        if (run.getMinId() == null) continue;
+        for (long from = run.getMinId(); from <= run.getMaxId(); from += run.getChunkSize()) {
+          if (doneChunks.contains(run.getShard() + ":" + from)) continue;
+          chunks.add(new long[] { run.getShard(), from, Math.min(from + run.getChunkSize() - 1, run.getMaxId()) });
+        }
+      }
+      log.debug("디버그: 원장 대사 " + runId + " 시작 - 샤드 " + runs.size() + ", 구간 " + chunks.size() + "/" + chunkCount
+          + ", 병렬도 " + parallelism);
+
+      // 2. fork-join 병렬 처리
+      AtomicLong accountCount = new AtomicLong();
+      ForkJoinPool pool = new ForkJoinPool(parallelism);
+      try {
+        pool.invoke(new ChunkTask(runId, chunks, 0, chunks.size(), accountCount));
+      } finally {
+        pool.shutdown();
+      }
+      result = ReconciliationRunEnum.DONE;
+      log.debug("디버그: 원장 대사 " + runId + " 종료 - 계좌 " + accountCount.get() + ", " + (System.currentTimeMillis() - start) + "ms");
+    } catch (RuntimeException e) {
+      log.error("원장 대사 " + runId + " 실패 - 같은 runId로 다시 시작하면 남은 구간부터 진행", e);
+    } finally {
+      try {
+        finish(runId, result, System.currentTimeMillis() - start);
+      } finally {
+        runningRunIds.remove(runId);
+      }
+    }
+  }
+
+  private void finish(String runId, ReconciliationRunEnum result, long elapsedMillis) {
+    ShardContext.run(CONTROL_SHARD, () -> chunkTransaction.executeWithoutResult(status -> {
+      for (ReconciliationRun run : runRepository.findByRunIdOrderByShardAsc(runId)) {
+        run.finish(result, elapsedMillis);
+      }
+    }));
+  }
+
+  // 구간 하나: 계좌 샤드에서 스트리밍으로 집계하면서 불일치만 모으고, 불일치 + 완료 기록은 0번 샤드에 한 트랜잭션으로
+  private long reconcileChunk(String runId, int shard, long fromId, long toId) {
+    List<ReconciliationDiscrepancy> discrepancies = new ArrayList<>();
+    long[] accounts = new long[1];
+
+    ShardContext.run(shard, () -> readTransaction.executeWithoutResult(status -> {
+      try (Stream<AccountLedgerSum> sums = accountRepository.streamLedgerSumByIdBetween(fromId, toId)) {
+        for (AccountLedgerSum sum : (Iterable<AccountLedgerSum>) sums::iterator) {
+          accounts[0]++;
+          long expected = sum.getOpeningBalance() + sum.getDepositAmount() - sum.getWithdrawAmount();
+          if (expected != sum.getBalance()) {
+            discrepancies.add(ReconciliationDiscrepancy.builder()
+                .runId(runId)
+                .accountId(sum.getAccountId())
+                .expectedBalance(expected)
+                .actualBalance(sum.getBalance())
+                .build());
+          }
+        }
+      }
+    }));
+
+    ShardContext.run(CONTROL_SHARD, () -> chunkTransaction.executeWithoutResult(status -> {
+      discrepancyRepository.saveAll(discrepancies);
+      chunkRepository.save(ReconciliationChunk.builder()
+          .runId(runId)
+          .shard(shard)
+          .fromId(fromId)
+          .toId(toId)
+          .accountCount(accounts[0])
+          .discrepancyCount((long) discrepancies.size())
+          .build());
+    }));
+    return accounts[0];
+  }
+
+  // 구간 목록을 반으로 나눠가며 fork, 구간 하나가 남으면 직접 처리
+  private class ChunkTask extends RecursiveAction {
+    private final String runId;
+    private final List<long[]> chunks;
+    private final int lo;
+    private final int hi;
+    private final AtomicLong accountCount;
+
+    ChunkTask(String runId, List<long[]> chunks, int lo, int hi, AtomicLong accountCount) {
+      this.runId = runId;
+      this.chunks = chunks;
+      this.lo = lo;
+      this.hi = hi;
+      this.accountCount = accountCount;
+    }
+
+    @Override
+    protected void compute() {
+      if (hi - lo <= 0) return;
+      if (hi - lo == 1) {
+        long[] chunk = chunks.get(lo);
+        accountCount.addAndGet(reconcileChunk(runId, (int) chunk[0], chunk[1], chunk[2]));
+        return;
+      }
+      int mid = (lo + hi) >>> 1;
+      invokeAll(new ChunkTask(runId, chunks, lo, mid, accountCount),
+          new ChunkTask(runId, chunks, mid, hi, accountCount));
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package shop.mtcoding.bank.job;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import shop.mtcoding.bank.service.AccountTransferService;
+
+/**
+ * 샤드 간 이체 중 서버가 죽어 WITHDRAWN으로 남은 saga를 주기적으로 완료/보상 처리
+ */
+@RequiredArgsConstructor
+@Component
+public class TransferSagaRecoveryJob {
+  private final Logger log = LoggerFactory.getLogger(getClass());
+  private final AccountTransferService accountTransferService;
+
+  @Scheduled(fixedDelayString = "${bank.transfer.recovery-delay-ms:60000}")
+  public void run() {
+    int recovered = accountTransferService.미완료이체복구();
+    if (recovered > 0) {
+      log.info("미완료 이체 복구 - " + recovered + "건");
+    }
+  }
+}
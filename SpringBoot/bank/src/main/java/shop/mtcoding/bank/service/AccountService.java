@@ -0,0 +1,61 @@
+package shop.mtcoding.bank.service;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import shop.mtcoding.bank.config.shard.ShardKey;
+import shop.mtcoding.bank.domain.account.AccountRepository;
+import shop.mtcoding.bank.domain.account.AccountSummary;
+import shop.mtcoding.bank.domain.transaction.TransactionRepository;
+import shop.mtcoding.bank.domain.transaction.TransactionSummary;
+import shop.mtcoding.bank.domain.user.UserRepository;
+import shop.mtcoding.bank.domain.user.UserSummary;
+import shop.mtcoding.bank.dto.account.AccountResDto.AccountListResDto;
+import shop.mtcoding.bank.dto.account.AccountResDto.TransactionListResDto;
+import shop.mtcoding.bank.handler.ex.CustomApiException;
+
+@RequiredArgsConstructor
+@Service
+public class AccountService {
+  private static final int PAGE_SIZE = 20;
+
+  private final UserRepository userRepository;
+  private final AccountRepository accountRepository;
+  private final TransactionRepository transactionRepository;
+
+  // 조회는 projection + readOnly 트랜잭션 (flush 안함, 더티체킹 스냅샷 없음)
+  // readOnly는 리포지토리가 아니라 여기(트랜잭션 경계)에 둔다.
+  @Transactional(readOnly = true)
+  public AccountListResDto 계좌목록보기_유저별(@ShardKey Long userId) {
+    UserSummary userPS = userRepository.findSummaryById(userId)
+        .orElseThrow(() -> new CustomApiException("유저를 찾을 수 없습니다."));
+
+    List<AccountSummary> accountListPS = accountRepository.findSummaryByUserIdOrderByIdDesc(userId);
+
+    return new AccountListResDto(userPS, accountListPS);
+  }
+
+  @Transactional(readOnly = true)
+  public TransactionListResDto 거래내역보기(@ShardKey Long accountId, Long userId, int page) {
+    // 1. 계좌 소유자 확인
+    Long ownerId = accountRepository.findUserIdById(accountId)
+        .orElseThrow(() -> new CustomApiException("계좌를 찾을 수 없습니다."));
+    if (!ownerId.equals(userId)) {
+      throw new CustomApiException("계좌 소유자가 아닙니다.");
+    }
+    if (page < 0) {
+      throw new CustomApiException("페이지 번호가 올바르지 않습니다.");
+    }
+
+    // 2. 거래내역 (최신순)
+    Slice<TransactionSummary> transactionListPS = transactionRepository.findSummaryByAccountId(accountId,
+        PageRequest.of(page, PAGE_SIZE));
+
+    return new TransactionListResDto(accountId, transactionListPS);
+  }
+}
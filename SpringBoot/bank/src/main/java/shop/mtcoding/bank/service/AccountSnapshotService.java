@@ -0,0 +1,184 @@
+package shop.mtcoding.bank.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import shop.mtcoding.bank.config.shard.ShardKey;
+import shop.mtcoding.bank.domain.account.Account;
+import shop.mtcoding.bank.domain.account.AccountBalanceSnapshot;
+import shop.mtcoding.bank.domain.account.AccountBalanceSnapshotRepository;
+import shop.mtcoding.bank.domain.account.AccountRepository;
+import shop.mtcoding.bank.domain.transaction.AccountAmountSum;
+import shop.mtcoding.bank.domain.transaction.TransactionRepository;
+import shop.mtcoding.bank.dto.account.AccountResDto.StatementResDto;
+import shop.mtcoding.bank.handler.ex.CustomApiException;
+
+@RequiredArgsConstructor
+@Service
+public class AccountSnapshotService {
+  private static final int CHUNK_SIZE = 1000;
+  private static final int MAX_REPLAY_DAYS = 7; // 스냅샷 작업이 며칠 밀려도 조회는 되도록
+  private static final int MAX_STATEMENT_DAYS = 366;
+
+  private final AccountRepository accountRepository;
+  private final AccountBalanceSnapshotRepository snapshotRepository;
+  private final TransactionRepository transactionRepository;
+
+  /**
+   * date 날짜의 일말 스냅샷을 현재 샤드에서 id > afterId 인 계좌 CHUNK_SIZE개에 대해 생성한다.
+   * 전날 스냅샷 + 당일 거래내역만 합산하므로 전체 거래내역을 다시 읽지 않는다.
+   * 이미 있는 스냅샷은 건너뛰고 insert도 중복을 무시하므로, 재실행하거나 여러 인스턴스가 동시에 돌려도 된다.
+   * 
+   * @return 마지막으로 처리한 계좌 id (더 처리할 계좌가 없으면 null)
+   */
+  @Transactional
+  public Long 일말스냅샷생성(LocalDate date, Long afterId) {
+    Slice<Account> accountSlice = accountRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, CHUNK_SIZE));
+    if (!accountSlice.hasContent()) {
+      return null;
+    }
+
+    List<Account> accounts = accountSlice.getContent();
+    Long fromId = accounts.get(0).getId();
+    Long toId = accounts.get(accounts.size() - 1).getId();
+    LocalDateTime dayStart = date.atStartOfDay();
+    LocalDateTime dayEnd = date.plusDays(1).atStartOfDay();
+    LocalDateTime now = LocalDateTime.now();
+
+    // 1. 이미 만들어진 스냅샷(재실행 대비)과 전날 스냅샷
+    Map<Long, Long> done = 스냅샷맵(date, fromId, toId);
+    Map<Long, Long> prev = 스냅샷맵(date.minusDays(1), fromId, toId);
+
+    // 2. 당일 계좌별 변동금액 (입금 - 출금)
+    Map<Long, Long> dayDelta = 구간변동금액맵(dayStart, dayEnd, fromId, toId);
+
+    // 3. 전날 스냅샷이 없는 계좌는 현재 잔액에서 그 이후 변동금액을 빼서 역산 (최초 1회)
+    Map<Long, Long> afterDelta = null;
+
+    for (Account account : accounts) {
+      if (done.containsKey(account.getId())) continue;
+      if (!account.getCreatedAt().isBefore(dayEnd)) continue; // 그날 이후 개설된 계좌는 그날 잔액이 없다.
+
+      long balance;
+      if (prev.containsKey(account.getId())) {
+        balance = prev.get(account.getId()) + dayDelta.getOrDefault(account.getId(), 0L);
+      } else {
+        if (afterDelta == null) {
+          afterDelta = 구간변동금액맵(dayEnd, now, fromId, toId);
+        }
+        balance = account.getBalance() - afterDelta.getOrDefault(account.getId(), 0L);
+      }
+
+      snapshotRepository.insertIfAbsent(account.getId(), date, balance, now);
+    }
+
+    return accountSlice.hasNext() ? toId : null;
+  }
+
+  /**
+   * 기간 명세서: 시작일 0시 잔액 + 기간 입출금 합계 = 종료일 다음날 0시 잔액
+   * 시작 잔액은 가장 가까운 스냅샷에서 하루 남짓한 거래만 재생해서 구한다.
+   */
+  @Transactional(readOnly = true)
+  public StatementResDto 계좌명세서보기(@ShardKey Long accountId, Long userId, LocalDate from, LocalDate to) {
+    // 1. 기간 확인
+    if (from.isAfter(to) || from.plusDays(MAX_STATEMENT_DAYS).isBefore(to)) {
+      throw new CustomApiException("조회 기간이 올바르지 않습니다.");
+    }
+
+    // 2. 계좌 소유자 확인
+    Account accountPS = accountRepository.findById(accountId)
+        .orElseThrow(() -> new CustomApiException("계좌를 찾을 수 없습니다."));
+    accountPS.checkOwner(userId);
+
+    // 3. 시작 잔액 + 기간 입출금
+    LocalDateTime start = from.atStartOfDay();
+    LocalDateTime end = to.plusDays(1).atStartOfDay();
+    long openingBalance = 시점잔액(accountPS, start);
+    long depositAmount = transactionRepository.sumDepositAmount(accountId, start, end);
+    long withdrawAmount = transactionRepository.sumWithdrawAmount(accountId, start, end);
+
+    return new StatementResDto(accountPS, from, to, openingBalance, depositAmount, withdrawAmount);
+  }
+
+  // at 시점 잔액: 재생하는 거래는 가장 가까운 스냅샷과 at 사이뿐이다.
+  private long 시점잔액(Account account, LocalDateTime at) {
+    Long accountId = account.getId();
+
+    // 1. 개설 이전이면 개설 잔액 (그 전에는 거래가 없다)
+    if (!at.isAfter(account.getCreatedAt())) {
+      return account.getOpeningBalance();
+    }
+
+    // 2. 기준일 이전의 가장 최근 스냅샷 + 스냅샷 다음날 0시부터 at까지 재생 (MAX_REPLAY_DAYS 이내일 때만)
+    Optional<AccountBalanceSnapshot> beforeOP = snapshotRepository
+        .findFirstByAccountIdAndSnapshotDateLessThanOrderBySnapshotDateDesc(accountId, at.toLocalDate());
+    if (beforeOP.isPresent()) {
+      AccountBalanceSnapshot snapshot = beforeOP.get();
+      LocalDateTime snapshotEnd = snapshot.getSnapshotDate().plusDays(1).atStartOfDay();
+      if (!isReplayTooLong(snapshotEnd, at)) {
+        return snapshot.getBalance() + 변동금액(accountId, snapshotEnd, at);
+      }
+    }
+
+    // 3. 이전 스냅샷이 없거나 너무 오래됐으면 기준일 이후의 가장 가까운 스냅샷에서 되돌림
+    Optional<AccountBalanceSnapshot> afterOP = snapshotRepository
+        .findFirstByAccountIdAndSnapshotDateGreaterThanEqualOrderBySnapshotDateAsc(accountId, at.toLocalDate());
+    if (afterOP.isPresent()) {
+      AccountBalanceSnapshot snapshot = afterOP.get();
+      LocalDateTime snapshotEnd = snapshot.getSnapshotDate().plusDays(1).atStartOfDay();
+      checkReplayRange(at, snapshotEnd);
+      return snapshot.getBalance() - 변동금액(accountId, at, snapshotEnd);
+    }
+
+    // 4. 쓸 수 있는 스냅샷이 없으면 (스냅샷 작업 전에 개설된 지 얼마 안 된 계좌) 개설 잔액 + 개설 후 거래
+    checkReplayRange(account.getCreatedAt(), at);
+    return account.getOpeningBalance() + 변동금액(accountId, account.getCreatedAt(), at);
+  }
+
+  // 스냅샷 없이 재생하는 구간이 길면 전체 거래내역 스캔과 같으므로 거절 (과거 날짜는 일말스냅샷생성으로 채운다)
+  private void checkReplayRange(LocalDateTime from, LocalDateTime to) {
+    if (isReplayTooLong(from, to)) {
+      throw new CustomApiException("해당 시점의 잔액 스냅샷이 없어 조회할 수 없습니다.");
+    }
+  }
+
+  private boolean isReplayTooLong(LocalDateTime from, LocalDateTime to) {
+    return from.plusDays(MAX_REPLAY_DAYS).isBefore(to);
+  }
+
+  private long 변동금액(Long accountId, LocalDateTime from, LocalDateTime to) {
+    if (!from.isBefore(to)) return 0L;
+    return transactionRepository.sumDepositAmount(accountId, from, to)
+        - transactionRepository.sumWithdrawAmount(accountId, from, to);
+  }
+
+  private Map<Long, Long> 구간변동금액맵(LocalDateTime from, LocalDateTime to, Long fromId, Long toId) {
+    Map<Long, Long> deltaMap = new HashMap<>();
+    for (AccountAmountSum sum : transactionRepository.sumDepositAmountGroupByAccount(from, to, fromId, toId)) {
+      deltaMap.merge(sum.getAccountId(), sum.getAmount(), Long::sum);
+    }
+    for (AccountAmountSum sum : transactionRepository.sumWithdrawAmountGroupByAccount(from, to, fromId, toId)) {
+      deltaMap.merge(sum.getAccountId(), -sum.getAmount(), Long::sum);
+    }
+    return deltaMap;
+  }
+
+  private Map<Long, Long> 스냅샷맵(LocalDate date, Long fromId, Long toId) {
+    Map<Long, Long> snapshotMap = new HashMap<>();
+    for (AccountBalanceSnapshot snapshot : snapshotRepository.findAllBySnapshotDateAndAccountIdBetween(date, fromId, toId)) {
+      snapshotMap.put(snapshot.getAccount().getId(), snapshot.getBalance());
+    }
+    return snapshotMap;
+  }
+}
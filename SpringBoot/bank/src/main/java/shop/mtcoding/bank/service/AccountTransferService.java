@@ -0,0 +1,731 @@
+package shop.mtcoding.bank.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import shop.mtcoding.bank.config.shard.ShardContext;
+import shop.mtcoding.bank.domain.account.Account;
+import shop.mtcoding.bank.domain.account.AccountDirectory;
+import shop.mtcoding.bank.domain.account.AccountRepository;
+import shop.mtcoding.bank.domain.transaction.Transaction;
+import shop.mtcoding.bank.domain.transaction.TransactionRepository;
+import shop.mtcoding.bank.domain.transaction.TrasactionEnum;
+import shop.mtcoding.bank.domain.transfer.TransferSaga;
+import shop.mtcoding.bank.domain.transfer.TransferSagaEnum;
+import shop.mtcoding.bank.domain.transfer.TransferSagaRepository;
+import shop.mtcoding.bank.dto.account.AccountReqDto.BulkTransferReqDto;
+import shop.mtcoding.bank.dto.account.AccountReqDto.BulkTransferReqDto.BulkTransferItemDto;
+import shop.mtcoding.bank.dto.account.AccountReqDto.TransferReqDto;
+import shop.mtcoding.bank.dto.account.AccountResDto.BulkTransferResDto;
+import shop.mtcoding.bank.dto.account.AccountResDto.BulkTransferResDto.BulkTransferItemResDto;
+import shop.mtcoding.bank.dto.account.AccountResDto.TransferResDto;
+import shop.mtcoding.bank.handler.event.BalanceChangedEvent;
+import shop.mtcoding.bank.handler.ex.CustomApiException;
+
+/**
+ * 계좌 이체 (샤드 인식)
+ * 
+ * - 두 계좌가 같은 샤드: 그 샤드에서 로컬 트랜잭션 한 번 (샤드가 1개면 항상 이 경로)
+ * - 다른 샤드: saga
+ *   1) 출금 샤드: 출금 + 거래내역(출금쪽) + saga(WITHDRAWN) 커밋
+ *   2) 입금 샤드: saga(DEPOSITED) + 입금 + 거래내역(입금쪽) 커밋 (같은 sagaId면 건너뜀)
+ *   3) 성공 → 출금 샤드 saga COMPLETED / 실패 → 출금 취소(환불) 후 COMPENSATED
+ *   환불 전에는 반드시 입금 샤드에 같은 sagaId로 ABORTED를 먼저 남긴다. (sagaId unique)
+ *   - ABORTED가 들어가면 늦게 커밋하려던 입금은 unique 위반으로 롤백 → 환불
+ *   - 이미 DEPOSITED가 있으면 (커밋 응답만 실패한 경우 등) 환불하지 않고 완료 처리
+ *   2)와 3) 사이에 서버가 죽으면 미완료이체복구()가 같은 방식으로 완료/보상을 정한다.
+ * 
+ * 트랜잭션은 ShardContext를 정한 뒤 TransactionTemplate으로 시작한다. (@Transactional은 샤드를 정하기 전에 커넥션을 잡음)
+ * 
+ * 일괄이체(급여 이체 등): 출금계좌 락과 출금은 전체 합계로 한 번
+ *   1) 출금 샤드 트랜잭션 하나: 출금계좌 + 같은 샤드 입금계좌를 id 순서로 한 번에 락, 전체 합계 출금,
+ *      같은 샤드 입금, 다른 샤드 몫은 입금 샤드별 saga(WITHDRAWN) 하나씩
+ *   2) 입금 샤드마다 트랜잭션 하나로 그 샤드 항목을 모두 입금 (실패하면 그 샤드 몫만 위와 같은 방식으로 환불)
+ *   - 거래내역은 JDBC batch insert, 잔액 update는 hibernate.jdbc.batch_size로 묶어서 전송
+ *   - 잔액 변경 알림은 batch insert로 받은 거래 id로 거래마다 하나씩 (합치지 않음, 단건 이체와 같은 형태)
+ *   - 일괄이체 saga의 입금 계좌는 그 샤드 첫 항목(샤드 판별용), amount는 그 샤드 합계
+ */
+@Service
+public class AccountTransferService {
+  private static final int LOCK_CHUNK = 1000; // in 절 크기
+  private static final int BATCH_SIZE = 1000;
+  private static final String TRANSFER_SQL = "insert into transaction_tb (withdraw_account_id, deposit_account_id, amount, withdraw_account_balance, deposit_account_balance, gubun, senter, receiver, tel, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+  private final AccountRepository accountRepository;
+  private final TransactionRepository transactionRepository;
+  private final TransferSagaRepository transferSagaRepository;
+  private final AccountDirectory accountDirectory;
+  private final WithdrawVelocityLimiter withdrawVelocityLimiter;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final JdbcTemplate jdbcTemplate;
+  private final int shardCount;
+  private final long sagaTimeoutMinutes;
+
+  public AccountTransferService(AccountRepository accountRepository, TransactionRepository transactionRepository,
+      TransferSagaRepository transferSagaRepository, AccountDirectory accountDirectory,
+      WithdrawVelocityLimiter withdrawVelocityLimiter, ApplicationEventPublisher eventPublisher,
+      PlatformTransactionManager transactionManager, JdbcTemplate jdbcTemplate,
+      @Value("${bank.shard.count:1}") int shardCount,
+      @Value("${bank.transfer.saga-timeout-minutes:5}") long sagaTimeoutMinutes) {
+    this.accountRepository = accountRepository;
+    this.transactionRepository = transactionRepository;
+    this.transferSagaRepository = transferSagaRepository;
+    this.accountDirectory = accountDirectory;
+    this.withdrawVelocityLimiter = withdrawVelocityLimiter;
+    this.eventPublisher = eventPublisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.jdbcTemplate = jdbcTemplate;
+    this.shardCount = shardCount;
+    this.sagaTimeoutMinutes = sagaTimeoutMinutes;
+  }
+
+  public TransferResDto 계좌이체(TransferReqDto transferReqDto, Long userId) {
+    // 1. 출금계좌와 입금계좌가 동일하면 안됨
+    if (transferReqDto.getWithdrawNumber().equals(transferReqDto.getDepositNumber())) {
+      throw new CustomApiException("입출금계좌가 동일할 수 없습니다.");
+    }
+
+    // 2. 계좌번호 → id → 샤드
+    long withdrawAccountId = findAccountId(transferReqDto.getWithdrawNumber());
+    long depositAccountId = findAccountId(transferReqDto.getDepositNumber());
+    int withdrawShard = ShardContext.shardOf(withdrawAccountId, shardCount);
+    int depositShard = ShardContext.shardOf(depositAccountId, shardCount);
+
+    // 3. 같은 샤드면 로컬 트랜잭션, 아니면 saga
+    if (withdrawShard == depositShard) {
+      return ShardContext.call(withdrawShard, () -> transactionTemplate.execute(
+          status -> transferLocal(transferReqDto, userId, withdrawAccountId, depositAccountId)));
+    }
+    return transferSaga(transferReqDto, userId, withdrawAccountId, withdrawShard, depositAccountId, depositShard);
+  }
+
+  // 항목별 실패(계좌 없음, 입금 샤드 실패)는 결과에만 남기고, 출금계좌 검증/잔액 부족은 전체 거절
+  public BulkTransferResDto 일괄이체(BulkTransferReqDto bulkTransferReqDto, Long userId) {
+    // 1. 계좌번호 → id → 샤드 (항목 검증)
+    long withdrawAccountId = findAccountId(bulkTransferReqDto.getWithdrawNumber());
+    int withdrawShard = ShardContext.shardOf(withdrawAccountId, shardCount);
+    List<BulkTransferItemDto> items = bulkTransferReqDto.getItems();
+    List<BulkTransferItemResDto> results = new ArrayList<>(items.size());
+    long[] depositAccountIds = new long[items.size()];
+    List<Integer> localItems = new ArrayList<>();
+    Map<Integer, List<Integer>> remoteItemsByShard = new TreeMap<>();
+
+    for (int i = 0; i < items.size(); i++) {
+      BulkTransferItemDto item = items.get(i);
+      BulkTransferItemResDto result = new BulkTransferItemResDto(i, item.getDepositNumber(), item.getAmount());
+      results.add(result);
+
+      if (item.getDepositNumber().equals(bulkTransferReqDto.getWithdrawNumber())) {
+        result.fail("입출금계좌가 동일할 수 없습니다.");
+        continue;
+      }
+      try {
+        depositAccountIds[i] = findAccountId(item.getDepositNumber());
+      } catch (CustomApiException e) {
+        result.fail(e.getMessage());
+        continue;
+      }
+      int depositShard = ShardContext.shardOf(depositAccountIds[i], shardCount);
+      if (depositShard == withdrawShard) {
+        localItems.add(i);
+      } else {
+        remoteItemsByShard.computeIfAbsent(depositShard, shard -> new ArrayList<>()).add(i);
+      }
+    }
+
+    // 2. 다른 샤드 입금계좌 확인 (락 없이 읽기만) + 샤드별 saga 준비
+    Map<Integer, TransferSaga> sagaByShard = new TreeMap<>();
+    for (Map.Entry<Integer, List<Integer>> entry : remoteItemsByShard.entrySet()) {
+      List<Integer> itemIndexes = entry.getValue();
+      checkDepositAccounts(entry.getKey(), itemIndexes, depositAccountIds, results);
+      itemIndexes.removeIf(i -> results.get(i).getMsg() != null);
+      if (!itemIndexes.isEmpty()) {
+        sagaByShard.put(entry.getKey(), newBulkSaga(bulkTransferReqDto, withdrawAccountId, depositAccountIds,
+            itemIndexes, results));
+      }
+    }
+
+    // 3. 출금 샤드: 락 한 번, 출금 한 번
+    Account withdrawAccountPS = ShardContext.call(withdrawShard, () -> transactionTemplate.execute(
+        status -> bulkWithdraw(bulkTransferReqDto, userId, withdrawAccountId, depositAccountIds, localItems,
+            remoteItemsByShard, sagaByShard, results)));
+    long balance = withdrawAccountPS.getBalance();
+
+    // 4. 입금 샤드별로 입금 한 번 (실패하면 그 샤드 몫만 환불)
+    for (Map.Entry<Integer, TransferSaga> entry : sagaByShard.entrySet()) {
+      int depositShard = entry.getKey();
+      TransferSaga saga = entry.getValue();
+      List<Integer> itemIndexes = remoteItemsByShard.get(depositShard);
+
+      try {
+        ShardContext.run(depositShard, () -> transactionTemplate.executeWithoutResult(
+            status -> bulkDepositSaga(sagaOf(saga, TransferSagaEnum.DEPOSITED), depositAccountIds, itemIndexes,
+                results)));
+      } catch (RuntimeException e) {
+        log.warn("일괄이체 입금 샤드 실패 - sagaId: " + saga.getSagaId() + ", " + e.getMessage());
+        try {
+          if (abortAndCompensate(saga, withdrawShard, depositShard)) {
+            balance += saga.getAmount();
+            itemIndexes.forEach(i -> results.get(i).fail("입금 처리에 실패해 이체가 취소되었습니다."));
+            continue;
+          }
+        } catch (CustomApiException unknown) {
+          itemIndexes.forEach(i -> results.get(i).fail(unknown.getMessage()));
+          continue;
+        }
+      }
+
+      itemIndexes.forEach(i -> results.get(i).succeed());
+      completeQuietly(saga.getSagaId(), withdrawShard);
+    }
+
+    BulkTransferResDto bulkTransferResDto = new BulkTransferResDto(withdrawAccountPS, results);
+    bulkTransferResDto.setBalance(balance);
+    return bulkTransferResDto;
+  }
+
+  // 입금 결과를 모르는 채로 멈춘 saga 정리 (TransferSagaRecoveryJob)
+  public int 미완료이체복구() {
+    LocalDateTime before = LocalDateTime.now().minusMinutes(sagaTimeoutMinutes);
+    int recovered = 0;
+
+    for (int shard = 0; shard < shardCount; shard++) {
+      List<TransferSaga> sagaList = ShardContext.call(shard,
+          () -> transactionTemplate.execute(
+              status -> transferSagaRepository.findByStatusAndCreatedAtBefore(TransferSagaEnum.WITHDRAWN, before)));
+
+      for (TransferSaga saga : sagaList) {
+        int depositShard = ShardContext.shardOf(saga.getDepositAccountId(), shardCount);
+        try {
+          if (abortDeposit(sagaOf(saga, TransferSagaEnum.ABORTED), depositShard)) {
+            compensate(saga.getSagaId(), shard);
+          } else {
+            complete(saga.getSagaId(), shard);
+          }
+          recovered++;
+        } catch (RuntimeException e) {
+          log.warn("미완료 이체 복구 실패, 다음에 재시도 - sagaId: " + saga.getSagaId() + ", " + e.getMessage());
+        }
+      }
+    }
+    return recovered;
+  }
+
+  private TransferResDto transferLocal(TransferReqDto transferReqDto, Long userId, long withdrawAccountId,
+      long depositAccountId) {
+    // 1. 데드락 방지: 항상 id 순서로 락
+    Account withdrawAccountPS;
+    Account depositAccountPS;
+    if (withdrawAccountId < depositAccountId) {
+      withdrawAccountPS = lockAccount(withdrawAccountId, transferReqDto.getWithdrawNumber());
+      depositAccountPS = lockAccount(depositAccountId, transferReqDto.getDepositNumber());
+    } else {
+      depositAccountPS = lockAccount(depositAccountId, transferReqDto.getDepositNumber());
+      withdrawAccountPS = lockAccount(withdrawAccountId, transferReqDto.getWithdrawNumber());
+    }
+
+    // 2. 출금 검증 + 이체
+    withdraw(withdrawAccountPS, transferReqDto, userId);
+    depositAccountPS.deposit(transferReqDto.getAmount());
+
+    // 3. 거래내역 남기기
+    Transaction transactionPS = transactionRepository.save(Transaction.builder()
+        .withdrawAccount(withdrawAccountPS)
+        .depositAccount(depositAccountPS)
+        .amount(transferReqDto.getAmount())
+        .withdrawAccountBalance(withdrawAccountPS.getBalance())
+        .depositAccountBalance(depositAccountPS.getBalance())
+        .gubun(TrasactionEnum.TRANSTER)
+        .senter(withdrawAccountPS.getNumber() + "")
+        .receiver(depositAccountPS.getNumber() + "")
+        .build());
+
+    publish(withdrawAccountPS, transactionPS);
+    publish(depositAccountPS, transactionPS);
+    return new TransferResDto(withdrawAccountPS, transactionPS);
+  }
+
+  private Account bulkWithdraw(BulkTransferReqDto bulkTransferReqDto, Long userId, long withdrawAccountId,
+      long[] depositAccountIds, List<Integer> localItems, Map<Integer, List<Integer>> remoteItemsByShard,
+      Map<Integer, TransferSaga> sagaByShard, List<BulkTransferItemResDto> results) {
+    // 1. 출금계좌 + 같은 샤드 입금계좌를 id 순서로 한 번에 락 (단건 이체와 같은 순서)
+    SortedSet<Long> accountIds = new TreeSet<>();
+    accountIds.add(withdrawAccountId);
+    for (int i : localItems) {
+      accountIds.add(depositAccountIds[i]);
+    }
+    Map<Long, Account> accountsPS = lockAccounts(accountIds);
+
+    Account withdrawAccountPS = accountsPS.get(withdrawAccountId);
+    if (withdrawAccountPS == null || !withdrawAccountPS.getNumber().equals(bulkTransferReqDto.getWithdrawNumber())) {
+      throw new CustomApiException("계좌를 찾을 수 없습니다.");
+    }
+    withdrawAccountPS.checkOwner(userId);
+    withdrawAccountPS.checkPassword(bulkTransferReqDto.getWithdrawPassword());
+
+    // 2. 같은 샤드 입금계좌 확인 (색인은 힌트이므로 락을 잡은 뒤 계좌번호를 다시 확인)
+    long totalAmount = 0;
+    List<Integer> transferItems = new ArrayList<>();
+    for (int i : localItems) {
+      BulkTransferItemResDto result = results.get(i);
+      Account depositAccountPS = accountsPS.get(depositAccountIds[i]);
+      if (depositAccountPS == null || !depositAccountPS.getNumber().equals(result.getDepositNumber())) {
+        result.fail("계좌를 찾을 수 없습니다.");
+        continue;
+      }
+      totalAmount = addAmount(totalAmount, result.getAmount());
+      transferItems.add(i);
+    }
+    for (int depositShard : sagaByShard.keySet()) {
+      totalAmount = addAmount(totalAmount, sagaByShard.get(depositShard).getAmount());
+      transferItems.addAll(remoteItemsByShard.get(depositShard));
+    }
+    if (transferItems.isEmpty()) {
+      return withdrawAccountPS;
+    }
+    Collections.sort(transferItems); // 거래내역은 요청 순서대로
+
+    // 3. 출금은 전체 합계로 한 번 (잔액 부족이면 전체 거절)
+    withdrawVelocityLimiter.acquire(withdrawAccountPS.getId(), totalAmount);
+    long withdrawBalance = withdrawAccountPS.getBalance();
+    withdrawAccountPS.withdraw(totalAmount);
+
+    // 4. 같은 샤드는 입금까지, 다른 샤드는 출금쪽 거래내역만 (건별 잔액은 요청 순서대로 누적)
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Object[]> rows = new ArrayList<>(transferItems.size());
+    for (int i : transferItems) {
+      BulkTransferItemResDto result = results.get(i);
+      Account depositAccountPS = accountsPS.get(depositAccountIds[i]); // 다른 샤드 계좌는 null
+      withdrawBalance -= result.getAmount();
+
+      if (depositAccountPS == null) {
+        rows.add(new Object[] { withdrawAccountPS.getId(), null, result.getAmount(), withdrawBalance, null,
+            TrasactionEnum.TRANSTER.name(), withdrawAccountPS.getNumber() + "", result.getDepositNumber() + "", null,
+            now, now });
+        continue;
+      }
+      depositAccountPS.deposit(result.getAmount());
+      rows.add(new Object[] { withdrawAccountPS.getId(), depositAccountPS.getId(), result.getAmount(),
+          withdrawBalance, depositAccountPS.getBalance(), TrasactionEnum.TRANSTER.name(),
+          withdrawAccountPS.getNumber() + "", depositAccountPS.getNumber() + "", null, now, now });
+      result.succeed();
+    }
+    List<Long> transactionIds = batchInsert(rows);
+    for (TransferSaga saga : sagaByShard.values()) {
+      transferSagaRepository.save(saga); // 다른 샤드 몫: 입금 대기
+    }
+
+    // 5. 잔액 변경 알림은 거래마다 하나씩
+    publish(rows, transactionIds, accountsPS, now.toLocalDateTime());
+    return withdrawAccountPS;
+  }
+
+  // 입금 샤드 하나의 일괄이체 항목을 한 번에 입금
+  private void bulkDepositSaga(TransferSaga depositedSaga, long[] depositAccountIds, List<Integer> itemIndexes,
+      List<BulkTransferItemResDto> results) {
+    Optional<TransferSaga> sagaOP = transferSagaRepository.findBySagaId(depositedSaga.getSagaId());
+    if (sagaOP.isPresent()) {
+      if (sagaOP.get().getStatus() == TransferSagaEnum.ABORTED) {
+        throw new CustomApiException("취소된 이체입니다.");
+      }
+      return;
+    }
+    transferSagaRepository.saveAndFlush(depositedSaga);
+
+    // 입금계좌를 id 순서로 한 번에 락, 하나라도 없어졌으면 이 샤드 몫 전체 실패 (→ 환불)
+    SortedSet<Long> accountIds = new TreeSet<>();
+    for (int i : itemIndexes) {
+      accountIds.add(depositAccountIds[i]);
+    }
+    Map<Long, Account> accountsPS = lockAccounts(accountIds);
+
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Object[]> rows = new ArrayList<>(itemIndexes.size());
+    for (int i : itemIndexes) {
+      BulkTransferItemResDto result = results.get(i);
+      Account depositAccountPS = accountsPS.get(depositAccountIds[i]);
+      if (depositAccountPS == null || !depositAccountPS.getNumber().equals(result.getDepositNumber())) {
+        throw new CustomApiException("계좌를 찾을 수 없습니다.");
+      }
+      depositAccountPS.deposit(result.getAmount());
+      rows.add(new Object[] { null, depositAccountPS.getId(), result.getAmount(), null,
+          depositAccountPS.getBalance(), TrasactionEnum.TRANSTER.name(), depositedSaga.getWithdrawNumber() + "",
+          depositAccountPS.getNumber() + "", null, now, now });
+    }
+    List<Long> transactionIds = batchInsert(rows);
+
+    publish(rows, transactionIds, accountsPS, now.toLocalDateTime());
+  }
+
+  // 다른 샤드 입금계좌가 실제로 있는지 (출금 전에 걸러서 그 항목만 실패 처리)
+  private void checkDepositAccounts(int depositShard, List<Integer> itemIndexes, long[] depositAccountIds,
+      List<BulkTransferItemResDto> results) {
+    List<Long> ids = new ArrayList<>(itemIndexes.size());
+    for (int i : itemIndexes) {
+      ids.add(depositAccountIds[i]);
+    }
+    Map<Long, Long> numberById = ShardContext.call(depositShard, () -> transactionTemplate.execute(status -> {
+      Map<Long, Long> numbers = new HashMap<>();
+      for (int from = 0; from < ids.size(); from += LOCK_CHUNK) {
+        for (Account accountPS : accountRepository.findAllById(ids.subList(from, Math.min(from + LOCK_CHUNK, ids.size())))) {
+          numbers.put(accountPS.getId(), accountPS.getNumber());
+        }
+      }
+      return numbers;
+    }));
+
+    for (int i : itemIndexes) {
+      BulkTransferItemResDto result = results.get(i);
+      if (!result.getDepositNumber().equals(numberById.get(depositAccountIds[i]))) {
+        result.fail("계좌를 찾을 수 없습니다.");
+      }
+    }
+  }
+
+  private TransferResDto transferSaga(TransferReqDto transferReqDto, Long userId, long withdrawAccountId,
+      int withdrawShard, long depositAccountId, int depositShard) {
+    String sagaId = UUID.randomUUID().toString();
+
+    // 1. 출금 샤드: 출금 + saga 기록
+    TransferResDto transferResDto = ShardContext.call(withdrawShard, () -> transactionTemplate.execute(status -> {
+      Account withdrawAccountPS = lockAccount(withdrawAccountId, transferReqDto.getWithdrawNumber());
+      withdraw(withdrawAccountPS, transferReqDto, userId);
+
+      Transaction transactionPS = transactionRepository.save(Transaction.builder()
+          .withdrawAccount(withdrawAccountPS)
+          .amount(transferReqDto.getAmount())
+          .withdrawAccountBalance(withdrawAccountPS.getBalance())
+          .gubun(TrasactionEnum.TRANSTER)
+          .senter(withdrawAccountPS.getNumber() + "")
+          .receiver(transferReqDto.getDepositNumber() + "")
+          .build());
+      transferSagaRepository.save(newSaga(sagaId, transferReqDto, withdrawAccountId, depositAccountId,
+          TransferSagaEnum.WITHDRAWN));
+
+      publish(withdrawAccountPS, transactionPS);
+      return new TransferResDto(withdrawAccountPS, transactionPS);
+    }));
+
+    // 2. 입금 샤드: 실패하면 입금을 막은 뒤 출금 취소
+    try {
+      ShardContext.run(depositShard, () -> transactionTemplate.executeWithoutResult(
+          status -> depositSaga(sagaId, transferReqDto, withdrawAccountId, depositAccountId)));
+    } catch (RuntimeException e) {
+      log.warn("샤드 간 이체 입금 실패 - sagaId: " + sagaId + ", " + e.getMessage());
+      TransferSaga saga = newSaga(sagaId, transferReqDto, withdrawAccountId, depositAccountId,
+          TransferSagaEnum.WITHDRAWN);
+      if (abortAndCompensate(saga, withdrawShard, depositShard)) {
+        throw e instanceof CustomApiException ? e : new CustomApiException("입금 처리에 실패해 이체가 취소되었습니다.");
+      }
+    }
+
+    // 3. 완료 표시
+    completeQuietly(sagaId, withdrawShard);
+    return transferResDto;
+  }
+
+  private void depositSaga(String sagaId, TransferReqDto transferReqDto, long withdrawAccountId,
+      long depositAccountId) {
+    // 같은 saga를 두 번 입금하지 않는다. (ABORTED면 이미 환불 대상)
+    Optional<TransferSaga> sagaOP = transferSagaRepository.findBySagaId(sagaId);
+    if (sagaOP.isPresent()) {
+      if (sagaOP.get().getStatus() == TransferSagaEnum.ABORTED) {
+        throw new CustomApiException("취소된 이체입니다.");
+      }
+      return;
+    }
+
+    // saga 기록을 먼저 flush: 그 사이 ABORTED가 커밋되면 여기서 unique 위반으로 입금 전체가 롤백된다.
+    transferSagaRepository.saveAndFlush(newSaga(sagaId, transferReqDto, withdrawAccountId, depositAccountId,
+        TransferSagaEnum.DEPOSITED));
+
+    Account depositAccountPS = lockAccount(depositAccountId, transferReqDto.getDepositNumber());
+    depositAccountPS.deposit(transferReqDto.getAmount());
+
+    Transaction transactionPS = transactionRepository.save(Transaction.builder()
+        .depositAccount(depositAccountPS)
+        .amount(transferReqDto.getAmount())
+        .depositAccountBalance(depositAccountPS.getBalance())
+        .gubun(TrasactionEnum.TRANSTER)
+        .senter(transferReqDto.getWithdrawNumber() + "")
+        .receiver(depositAccountPS.getNumber() + "")
+        .build());
+
+    publish(depositAccountPS, transactionPS);
+  }
+
+  /**
+   * 환불 전 입금 샤드에 ABORTED 기록 (이후 같은 sagaId의 입금은 실패)
+   * 반환: true면 환불해도 됨, false면 이미 입금됨(DEPOSITED)
+   * 예외가 나면 결과를 모르는 것이므로 환불하지 않는다.
+   */
+  private boolean abortDeposit(TransferSaga abortedSaga, int depositShard) {
+    try {
+      return ShardContext.call(depositShard, () -> transactionTemplate.execute(status -> {
+        Optional<TransferSaga> sagaOP = transferSagaRepository.findBySagaId(abortedSaga.getSagaId());
+        if (sagaOP.isPresent()) {
+          return sagaOP.get().getStatus() == TransferSagaEnum.ABORTED;
+        }
+        transferSagaRepository.saveAndFlush(abortedSaga);
+        return true;
+      }));
+    } catch (DataIntegrityViolationException e) {
+      // 입금이 먼저 DEPOSITED를 커밋함
+      return ShardContext.call(depositShard, () -> transactionTemplate.execute(
+          status -> transferSagaRepository.findBySagaId(abortedSaga.getSagaId())
+              .map(sagaPS -> sagaPS.getStatus() == TransferSagaEnum.ABORTED)
+              .orElseThrow(() -> e)));
+    }
+  }
+
+  /**
+   * 입금 단계 실패 후 처리: 입금을 막았으면 환불하고 true, 이미 입금됐으면 false (완료로 진행)
+   * 입금 여부를 확인하지 못하면 WITHDRAWN 그대로 두고 미완료이체복구()에 맡긴다. (CustomApiException)
+   */
+  private boolean abortAndCompensate(TransferSaga saga, int withdrawShard, int depositShard) {
+    boolean aborted;
+    try {
+      aborted = abortDeposit(sagaOf(saga, TransferSagaEnum.ABORTED), depositShard);
+    } catch (RuntimeException e) {
+      log.warn("샤드 간 이체 입금 결과 확인 실패 - sagaId: " + saga.getSagaId() + ", " + e.getMessage());
+      throw new CustomApiException("이체 결과를 확인하지 못했습니다. 잠시 후 거래내역을 확인해주세요.");
+    }
+
+    if (aborted) {
+      compensate(saga.getSagaId(), withdrawShard);
+    } else {
+      log.warn("샤드 간 이체 입금은 커밋됨, 완료 처리 - sagaId: " + saga.getSagaId());
+    }
+    return aborted;
+  }
+
+  // 완료 표시 (실패해도 입금은 끝났으므로 복구 작업이 COMPLETED로 바꾼다)
+  private void completeQuietly(String sagaId, int withdrawShard) {
+    try {
+      complete(sagaId, withdrawShard);
+    } catch (RuntimeException e) {
+      log.warn("샤드 간 이체 완료 표시 실패 - sagaId: " + sagaId + ", " + e.getMessage());
+    }
+  }
+
+  private void complete(String sagaId, int withdrawShard) {
+    ShardContext.run(withdrawShard, () -> transactionTemplate.executeWithoutResult(status -> {
+      TransferSaga sagaPS = findSagaForUpdate(sagaId);
+      if (sagaPS.isPending()) {
+        sagaPS.complete();
+      }
+    }));
+  }
+
+  // 출금 취소: 출금 계좌로 환불 + 입금 거래내역
+  private void compensate(String sagaId, int withdrawShard) {
+    ShardContext.run(withdrawShard, () -> transactionTemplate.executeWithoutResult(status -> {
+      TransferSaga sagaPS = findSagaForUpdate(sagaId);
+      if (!sagaPS.isPending()) {
+        return;
+      }
+
+      Account withdrawAccountPS = lockAccount(sagaPS.getWithdrawAccountId(), sagaPS.getWithdrawNumber());
+      withdrawAccountPS.deposit(sagaPS.getAmount());
+      Transaction transactionPS = transactionRepository.save(Transaction.builder()
+          .depositAccount(withdrawAccountPS)
+          .amount(sagaPS.getAmount())
+          .depositAccountBalance(withdrawAccountPS.getBalance())
+          .gubun(TrasactionEnum.DEPOSIT)
+          .senter("이체취소")
+          .receiver(withdrawAccountPS.getNumber() + "")
+          .build());
+      sagaPS.compensate();
+      withdrawVelocityLimiter.release(withdrawAccountPS.getId(), sagaPS.getAmount(), sagaPS.getCreatedAt());
+
+      publish(withdrawAccountPS, transactionPS);
+    }));
+  }
+
+  private void withdraw(Account withdrawAccountPS, TransferReqDto transferReqDto, Long userId) {
+    withdrawAccountPS.checkOwner(userId);
+    withdrawAccountPS.checkPassword(transferReqDto.getWithdrawPassword());
+    withdrawVelocityLimiter.acquire(withdrawAccountPS.getId(), transferReqDto.getAmount());
+    withdrawAccountPS.withdraw(transferReqDto.getAmount());
+  }
+
+  // 계좌번호 → id: 색인에 없으면 샤드마다 조회
+  private long findAccountId(Long number) {
+    long accountId = accountDirectory.findAccountId(number);
+    if (accountId != AccountDirectory.NOT_FOUND) {
+      return accountId;
+    }
+    for (int shard = 0; shard < shardCount; shard++) {
+      Optional<Long> accountIdOP = ShardContext.call(shard,
+          () -> transactionTemplate.execute(status -> accountRepository.findIdByNumber(number)));
+      if (accountIdOP.isPresent()) {
+        return accountIdOP.get();
+      }
+    }
+    throw new CustomApiException("계좌를 찾을 수 없습니다.");
+  }
+
+  // 색인은 힌트이므로 락을 잡은 뒤 계좌번호를 다시 확인
+  private Account lockAccount(long accountId, Long number) {
+    Account accountPS = accountRepository.findByIdForUpdate(accountId)
+        .orElseThrow(() -> new CustomApiException("계좌를 찾을 수 없습니다."));
+    if (!accountPS.getNumber().equals(number)) {
+      throw new CustomApiException("계좌를 찾을 수 없습니다.");
+    }
+    return accountPS;
+  }
+
+  // 합계가 long을 넘으면 음수가 되어 잔액/한도 검사를 통과하므로 전체 거절
+  private long addAmount(long total, long amount) {
+    try {
+      return Math.addExact(total, amount);
+    } catch (ArithmeticException e) {
+      throw new CustomApiException("이체 금액 합계가 너무 큽니다.");
+    }
+  }
+
+  private Map<Long, Account> lockAccounts(SortedSet<Long> accountIds) {
+    List<Long> ids = new ArrayList<>(accountIds);
+    Map<Long, Account> accountsPS = new HashMap<>();
+    for (int from = 0; from < ids.size(); from += LOCK_CHUNK) {
+      for (Account accountPS : accountRepository
+          .findAllByIdInForUpdate(ids.subList(from, Math.min(from + LOCK_CHUNK, ids.size())))) {
+        accountsPS.put(accountPS.getId(), accountPS);
+      }
+    }
+    return accountsPS;
+  }
+
+  private TransferSaga findSagaForUpdate(String sagaId) {
+    return transferSagaRepository.findBySagaIdForUpdate(sagaId)
+        .orElseThrow(() -> new CustomApiException("이체 기록을 찾을 수 없습니다."));
+  }
+
+  private TransferSaga newSaga(String sagaId, TransferReqDto transferReqDto, long withdrawAccountId,
+      long depositAccountId, TransferSagaEnum status) {
+    return TransferSaga.builder()
+        .sagaId(sagaId)
+        .withdrawAccountId(withdrawAccountId)
+        .withdrawNumber(transferReqDto.getWithdrawNumber())
+        .depositAccountId(depositAccountId)
+        .depositNumber(transferReqDto.getDepositNumber())
+        .amount(transferReqDto.getAmount())
+        .status(status)
+        .build();
+  }
+
+  // 일괄이체: 입금 샤드 하나의 몫 (입금 계좌는 샤드 판별용으로 첫 항목)
+  private TransferSaga newBulkSaga(BulkTransferReqDto bulkTransferReqDto, long withdrawAccountId,
+      long[] depositAccountIds, List<Integer> itemIndexes, List<BulkTransferItemResDto> results) {
+    long amount = 0;
+    for (int i : itemIndexes) {
+      amount = addAmount(amount, results.get(i).getAmount());
+    }
+    int first = itemIndexes.get(0);
+    return TransferSaga.builder()
+        .sagaId(UUID.randomUUID().toString())
+        .withdrawAccountId(withdrawAccountId)
+        .withdrawNumber(bulkTransferReqDto.getWithdrawNumber())
+        .depositAccountId(depositAccountIds[first])
+        .depositNumber(results.get(first).getDepositNumber())
+        .amount(amount)
+        .status(TransferSagaEnum.WITHDRAWN)
+        .build();
+  }
+
+  // 같은 saga를 다른 샤드에 남길 때 (새 엔티티)
+  private TransferSaga sagaOf(TransferSaga saga, TransferSagaEnum status) {
+    return TransferSaga.builder()
+        .sagaId(saga.getSagaId())
+        .withdrawAccountId(saga.getWithdrawAccountId())
+        .withdrawNumber(saga.getWithdrawNumber())
+        .depositAccountId(saga.getDepositAccountId())
+        .depositNumber(saga.getDepositNumber())
+        .amount(saga.getAmount())
+        .status(status)
+        .build();
+  }
+
+  // 반환: 넣은 순서대로 거래 id (identity)
+  private List<Long> batchInsert(List<Object[]> rows) {
+    List<Long> transactionIds = new ArrayList<>(rows.size());
+    for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+      List<Object[]> batch = rows.subList(from, Math.min(from + BATCH_SIZE, rows.size()));
+      KeyHolder keyHolder = new GeneratedKeyHolder();
+      jdbcTemplate.batchUpdate(conn -> conn.prepareStatement(TRANSFER_SQL, Statement.RETURN_GENERATED_KEYS),
+          new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+              new ArgumentPreparedStatementSetter(batch.get(i)).setValues(ps);
+            }
+
+            @Override
+            public int getBatchSize() {
+              return batch.size();
+            }
+          }, keyHolder);
+      for (Map<String, Object> keys : keyHolder.getKeyList()) {
+        transactionIds.add(((Number) keys.values().iterator().next()).longValue()); // H2는 ID, MariaDB는 insert_id
+      }
+    }
+    if (transactionIds.size() != rows.size()) {
+      throw new IllegalStateException("거래 id를 받지 못했습니다: " + transactionIds.size() + " / " + rows.size());
+    }
+    return transactionIds;
+  }
+
+  private void publish(Account accountPS, Transaction transactionPS) {
+    eventPublisher.publishEvent(new BalanceChangedEvent(accountPS.getUser().getId(), accountPS.getId(),
+        accountPS.getNumber(), accountPS.getBalance(), transactionPS.getId(), transactionPS.getGubun().getValue(),
+        transactionPS.getAmount(), transactionPS.getCreatedAt()));
+  }
+
+  // batch insert한 거래내역 행 순서대로, 행의 출금/입금 계좌마다 그 거래 직후 잔액으로 발행
+  // 행: [출금계좌 id, 입금계좌 id, 금액, 출금계좌 잔액, 입금계좌 잔액, ...] (TRANSFER_SQL 순서, 다른 샤드 쪽은 null)
+  private void publish(List<Object[]> rows, List<Long> transactionIds, Map<Long, Account> accountsPS,
+      LocalDateTime createdAt) {
+    for (int n = 0; n < rows.size(); n++) {
+      Object[] row = rows.get(n);
+      if (row[0] != null) {
+        publish(accountsPS.get((Long) row[0]), (Long) row[3], transactionIds.get(n), (Long) row[2], createdAt);
+      }
+      if (row[1] != null) {
+        publish(accountsPS.get((Long) row[1]), (Long) row[4], transactionIds.get(n), (Long) row[2], createdAt);
+      }
+    }
+  }
+
+  private void publish(Account accountPS, Long balance, Long transactionId, Long amount, LocalDateTime createdAt) {
+    eventPublisher.publishEvent(new BalanceChangedEvent(accountPS.getUser().getId(), accountPS.getId(),
+        accountPS.getNumber(), balance, transactionId, TrasactionEnum.TRANSTER.getValue(), amount, createdAt));
+  }
+}
@@ -0,0 +1,47 @@
+package shop.mtcoding.bank.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import jakarta.persistence.EntityManagerFactory;
+import shop.mtcoding.bank.dto.admin.AdminResDto.CacheStatsResDto;
+import shop.mtcoding.bank.dto.admin.AdminResDto.SlowRequestResDto;
+import shop.mtcoding.bank.handler.profile.SlowRequest;
+import shop.mtcoding.bank.handler.profile.SlowRequestRing;
+
+@Service
+public class AdminService {
+  private final Statistics statistics;
+  private final SlowRequestRing slowRequestRing;
+
+  public AdminService(EntityManagerFactory emf, SlowRequestRing slowRequestRing) {
+    this.statistics = emf.unwrap(SessionFactory.class).getStatistics();
+    this.slowRequestRing = slowRequestRing;
+  }
+
+  // 2차 캐시 region별 hit/miss (hibernate.generate_statistics: true 일 때만 집계됨)
+  public List<CacheStatsResDto> 캐시통계보기() {
+    List<CacheStatsResDto> cacheStatsList = new ArrayList<>();
+    for (String region : statistics.getSecondLevelCacheRegionNames()) {
+      CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+      if (regionStatistics != null) {
+        cacheStatsList.add(new CacheStatsResDto(region, regionStatistics));
+      }
+    }
+    return cacheStatsList;
+  }
+
+  // 최근 느린 요청의 구간별 소요 시간 (최신순)
+  public List<SlowRequestResDto> 느린요청보기() {
+    List<SlowRequestResDto> slowRequestList = new ArrayList<>();
+    for (SlowRequest slowRequest : slowRequestRing.snapshot()) {
+      slowRequestList.add(new SlowRequestResDto(slowRequest));
+    }
+    return slowRequestList;
+  }
+}
@@ -4,12 +4,15 @@ import java.util.Optional;
 
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import shop.mtcoding.bank.config.shard.ShardKey;
 import shop.mtcoding.bank.domain.user.User;
 import shop.mtcoding.bank.domain.user.UserRepository;
+import shop.mtcoding.bank.domain.user.UserSummary;
 import shop.mtcoding.bank.dto.user.UserResDto.JoinResDto;
+import shop.mtcoding.bank.dto.user.UserResDto.UserInfoResDto;
 import shop.mtcoding.bank.dto.user.userReqDto.JoinReqDto;
 import shop.mtcoding.bank.handler.ex.CustomApiException;
 
@@ -22,7 +25,7 @@ public class UserService {
 
   // 서비스는 DTO로 요청을 받고, DTO로 응답한다.
   @Transactional // 트랜잭션이 메서드 시작할 때 시작되고 종료 될 때 함께 종료
-  public JoinResDto 회원가입(JoinReqDto joinReqDto) {
+  public JoinResDto 회원가입(@ShardKey JoinReqDto joinReqDto) {
     // 1. 동일 유저네임 존재 검사
     Optional<User> userOP = userRepository.findByUsername(joinReqDto.getUsername());
     // if(userOP.isPresent()) { // 유저네임 중복되었다는 뜻
@@ -38,4 +41,22 @@ public class UserService {
     // 3. dto 응답
     return new JoinResDto(userPS);
   }
+
+  // 조회 전용: 엔티티 대신 projection (id, username, fullname만 select)
+  @Transactional(readOnly = true)
+  public UserInfoResDto 회원정보보기(@ShardKey Long userId) {
+    UserSummary userPS = userRepository.findSummaryById(userId)
+        .orElseThrow(() -> new CustomApiException("유저를 찾을 수 없습니다."));
+
+    return new UserInfoResDto(userPS);
+  }
+
+  // 로그인 유저 조회 (요청마다 호출됨): natural id → 2차 캐시에 있으면 DB를 타지 않는다.
+  @Transactional(readOnly = true)
+  public UserInfoResDto 회원정보보기(@ShardKey String username) {
+    User userPS = userRepository.findByNaturalId(username)
+        .orElseThrow(() -> new CustomApiException("유저를 찾을 수 없습니다."));
+
+    return new UserInfoResDto(userPS);
+  }
 }
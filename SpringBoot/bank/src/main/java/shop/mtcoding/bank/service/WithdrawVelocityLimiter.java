@@ -0,0 +1,203 @@
+package shop.mtcoding.bank.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import shop.mtcoding.bank.config.shard.ShardContext;
+import shop.mtcoding.bank.domain.transaction.TransactionRepository;
+import shop.mtcoding.bank.domain.transaction.WithdrawHistory;
+import shop.mtcoding.bank.domain.transfer.TransferSagaEnum;
+import shop.mtcoding.bank.domain.transfer.TransferSagaRepository;
+import shop.mtcoding.bank.handler.ex.CustomApiException;
+import shop.mtcoding.bank.util.SlidingWindowCounter;
+
+/**
+ * 계좌별 출금 한도(1시간 / 24시간) 검사
+ * 
+ * 매 출금마다 transaction_tb를 범위 조회하지 않고, 메모리의 슬라이딩 윈도우 카운터만 본다.
+ * - 1시간: 1분 버킷 x 60, 24시간: 1시간 버킷 x 24
+ * - 서버 시작 시 최근 24시간 출금 내역으로 카운터를 다시 채운다. (샤드마다)
+ *   Tomcat은 그 전에 요청을 받기 시작하므로, 재구성이 끝날 때까지 acquire()는 기다린다. (최대 READY_WAIT_MILLIS)
+ * - 잔액 변경 전에 acquire() 호출, 트랜잭션이 롤백되면 기록도 자동으로 되돌린다.
+ * - 샤드 간 이체가 환불(보상)되면 release()로 원래 출금 시각의 버킷에서 뺀다. 재구성 때도 환불된 saga만큼 뺀다.
+ * - 24시간 동안 출금이 없는 계좌의 카운터는 주기적으로 지운다. (계좌 수만큼 계속 늘지 않도록)
+ * 
+ * 검사-기록과 정리는 같은 키의 compute 안에서 하므로, 정리 직전에 꺼낸 카운터에 기록이 사라지는 일은 없다.
+ */
+@Component
+public class WithdrawVelocityLimiter {
+  private static final long MINUTE = 60_000L;
+  private static final long HOUR = 60 * MINUTE;
+  private static final long READY_WAIT_MILLIS = 10_000L;
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+  private final ConcurrentMap<Long, Counters> countersByAccount = new ConcurrentHashMap<>();
+  private final CountDownLatch ready = new CountDownLatch(1);
+  private final TransactionRepository transactionRepository;
+  private final TransferSagaRepository transferSagaRepository;
+  private final TransactionTemplate readOnlyTransaction;
+  private final long hourlyLimit;
+  private final long dailyLimit;
+  private final int shardCount;
+
+  public WithdrawVelocityLimiter(TransactionRepository transactionRepository,
+      TransferSagaRepository transferSagaRepository, PlatformTransactionManager transactionManager,
+      @Value("${bank.withdraw.hourly-limit:1000000}") long hourlyLimit,
+      @Value("${bank.withdraw.daily-limit:5000000}") long dailyLimit,
+      @Value("${bank.shard.count:1}") int shardCount) {
+    this.transactionRepository = transactionRepository;
+    this.transferSagaRepository = transferSagaRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.hourlyLimit = hourlyLimit;
+    this.dailyLimit = dailyLimit;
+    this.shardCount = shardCount;
+  }
+
+  /**
+   * 한도를 넘지 않으면 출금액을 기록, 넘으면 CustomApiException
+   */
+  public void acquire(Long accountId, Long amount) {
+    awaitReady();
+    long now = System.currentTimeMillis();
+
+    countersByAccount.compute(accountId, (id, counters) -> {
+      if (counters == null) {
+        counters = new Counters();
+      }
+      if (counters.hourly.sum(now) + amount > hourlyLimit) {
+        throw new CustomApiException("1시간 출금 한도를 초과했습니다.");
+      }
+      if (counters.daily.sum(now) + amount > dailyLimit) {
+        throw new CustomApiException("1일 출금 한도를 초과했습니다.");
+      }
+      counters.add(now, amount);
+      return counters;
+    });
+
+    // 트랜잭션이 롤백되면 기록 취소 (기록이 남아있는 동안은 정리되지 않으므로 카운터가 있다)
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          if (status != STATUS_COMMITTED) {
+            subtract(accountId, amount, now);
+          }
+        }
+      });
+    }
+  }
+
+  /**
+   * 환불된 출금액을 출금 시각(withdrawnAt)의 버킷에서 뺀다. 트랜잭션 안이면 커밋된 뒤에 반영
+   * 이미 윈도우를 지나간 기록이거나 카운터가 정리됐으면 뺄 것이 없으므로 무시된다.
+   */
+  public void release(Long accountId, Long amount, LocalDateTime withdrawnAt) {
+    long at = withdrawnAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          subtract(accountId, amount, at);
+        }
+      });
+    } else {
+      subtract(accountId, amount, at);
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    LocalDateTime since = LocalDateTime.now().minusHours(24);
+    ZoneId zone = ZoneId.systemDefault();
+
+    long count = 0;
+    for (int shard = 0; shard < shardCount; shard++) {
+      count += ShardContext.call(shard, () -> readOnlyTransaction.execute(status -> {
+        long rows = 0;
+        try (Stream<WithdrawHistory> histories = transactionRepository.streamWithdrawHistorySince(since)) {
+          for (WithdrawHistory history : (Iterable<WithdrawHistory>) histories::iterator) {
+            long at = history.getCreatedAt().atZone(zone).toInstant().toEpochMilli();
+            countersByAccount.computeIfAbsent(history.getAccountId(), id -> new Counters()).add(at, history.getAmount());
+            rows++;
+          }
+        }
+        for (WithdrawHistory refund : transferSagaRepository
+            .findWithdrawHistoryByStatusSince(TransferSagaEnum.COMPENSATED, since)) {
+          long at = refund.getCreatedAt().atZone(zone).toInstant().toEpochMilli();
+          subtract(refund.getAccountId(), refund.getAmount(), at);
+        }
+        return rows;
+      }));
+    }
+    log.debug("디버그: 출금 한도 카운터 재구성 - 출금 " + count + "건, 계좌 " + countersByAccount.size() + "개");
+
+    // 실패하면 여기까지 오지 않으므로 출금은 계속 막힌다. (한도 없이 출금되는 것보다 낫다)
+    ready.countDown();
+  }
+
+  @Scheduled(fixedDelay = 10 * 60 * 1000L)
+  public void evictIdleCounters() {
+    evictIdle(System.currentTimeMillis());
+  }
+
+  int evictIdle(long nowMillis) {
+    int evicted = 0;
+    for (Long accountId : countersByAccount.keySet()) {
+      boolean[] removed = new boolean[1];
+      countersByAccount.computeIfPresent(accountId, (id, counters) -> {
+        removed[0] = counters.daily.sum(nowMillis) == 0;
+        return removed[0] ? null : counters;
+      });
+      if (removed[0]) evicted++;
+    }
+    return evicted;
+  }
+
+  int getCounterCount() {
+    return countersByAccount.size();
+  }
+
+  private void subtract(Long accountId, Long amount, long atMillis) {
+    countersByAccount.computeIfPresent(accountId, (id, counters) -> {
+      counters.add(atMillis, -amount);
+      return counters;
+    });
+  }
+
+  private void awaitReady() {
+    try {
+      if (ready.await(READY_WAIT_MILLIS, TimeUnit.MILLISECONDS)) return;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    throw new CustomApiException("출금 한도 정보를 준비 중입니다. 잠시 후 다시 시도해주세요.");
+  }
+
+  private static final class Counters {
+    private final SlidingWindowCounter hourly = new SlidingWindowCounter(60, MINUTE);
+    private final SlidingWindowCounter daily = new SlidingWindowCounter(24, HOUR);
+
+    private void add(long nowMillis, long amount) {
+      hourly.add(nowMillis, amount);
+      daily.add(nowMillis, amount);
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package shop.mtcoding.bank.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연시간(latency) 기반 동시 실행 수 제한 (Gradient 방식)
+ * 
+ * 평소 지연시간(longRtt, 지수이동평균)과 최근 지연시간(shortRtt, 윈도우 평균)을 비교해서
+ * 최근이 느려지면(DB 지연 등) limit을 줄이고, 빠르면 조금씩 늘린다.
+ * 
+ *   gradient = clamp(0.5, 1.0, tolerance * longRtt / shortRtt)
+ *   newLimit = limit * gradient + sqrt(limit)   (sqrt(limit): 대기열 여유분)
+ *   limit    = limit * (1 - smoothing) + newLimit * smoothing
+ * 
+ * tryAcquire()가 false면 바로 거절 → 커넥션 풀 앞에서 스레드가 쌓이지 않게 한다.
+ */
+public class AdaptiveConcurrencyLimiter {
+  private static final double TOLERANCE = 1.5; // 평소보다 1.5배까지 느린 건 정상으로 봄
+  private static final double SMOOTHING = 0.2;
+  private static final double BACKOFF = 0.9; // 실패(drop) 시 감소 비율
+  private static final int LONG_WINDOW = 100; // longRtt 이동평균 윈도우 수 (100 * 20 = 2000 샘플)
+  private static final int SAMPLE_WINDOW = 20; // shortRtt 샘플 수
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final AtomicInteger inFlight = new AtomicInteger();
+
+  private volatile int limit;
+
+  // 아래 필드는 synchronized(this) 안에서만 변경
+  private double estimatedLimit;
+  private double longRtt;
+  private long windowRttSum;
+  private int windowCount;
+  private int windowMaxInFlight;
+  private boolean windowDropped;
+
+  public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.limit = initialLimit;
+    this.estimatedLimit = initialLimit;
+  }
+
+  public boolean tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= limit) return false;
+      if (inFlight.compareAndSet(current, current + 1)) return true;
+    }
+  }
+
+  /**
+   * tryAcquire() 성공 후 반드시 호출
+   * 
+   * @param rttNanos 실행 시간
+   * @param dropped  과부하성 실패(커넥션 획득 실패, 타임아웃 등)
+   */
+  public void release(long rttNanos, boolean dropped) {
+    int current = inFlight.getAndDecrement();
+    onSample(rttNanos, current, dropped);
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  private synchronized void onSample(long rttNanos, int currentInFlight, boolean dropped) {
+    windowRttSum += rttNanos;
+    windowCount++;
+    windowMaxInFlight = Math.max(windowMaxInFlight, currentInFlight);
+    windowDropped |= dropped;
+    if (windowCount < SAMPLE_WINDOW) return;
+
+    double shortRtt = (double) windowRttSum / windowCount;
+    boolean appLimited = windowMaxInFlight < estimatedLimit / 2; // limit 근처까지 쓰지도 않았으면 늘리지 않는다.
+    boolean anyDropped = windowDropped;
+    windowRttSum = 0;
+    windowCount = 0;
+    windowMaxInFlight = 0;
+    windowDropped = false;
+
+    // 1. 평소 지연시간 갱신 (처음엔 첫 윈도우 값)
+    if (longRtt == 0) {
+      longRtt = shortRtt;
+    } else {
+      longRtt += (shortRtt - longRtt) / LONG_WINDOW;
+      // 과부하가 풀려 최근 지연시간이 평소의 절반 아래로 떨어지면, 부하 때 올라간 longRtt를 빨리 내려
+      // 느렸던 시절을 기준으로 limit을 너무 크게 잡지 않도록 한다.
+      if (longRtt / shortRtt > 2) {
+        longRtt *= 0.95;
+      }
+    }
+
+    // 2. 새 limit 계산
+    double newLimit;
+    if (anyDropped) {
+      newLimit = estimatedLimit * BACKOFF;
+    } else if (appLimited) {
+      return;
+    } else {
+      double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+      newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+      newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+    }
+
+    estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    limit = (int) estimatedLimit;
+  }
+}
@@ -6,20 +6,20 @@ import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.servlet.http.HttpServletResponse;
+import shop.mtcoding.bank.config.jackson.BankJacksonModule;
 import shop.mtcoding.bank.dto.ResponseDto;
 
 public class CustomResponseUtil {
   private static final Logger log = LoggerFactory.getLogger(CustomResponseUtil.class);
+  private static final ObjectMapper om = BankJacksonModule.newObjectMapper(); // thread-safe, 재사용
 
   public static void unAuthentication(HttpServletResponse response) {
     try {
-      ObjectMapper om = new ObjectMapper();
-      ResponseDto<?> responseDto = new ResponseDto<>(-1, "권한없음", null);
-      String responseBody = om.writeValueAsString(responseDto);
+      ResponseDto<?> responseDto = new ResponseDto<>(-1, ResponseDto.FORBIDDEN, null);
   
       response.setContentType("application/json;charset=utf-8");
       response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-      response.getWriter().println(responseBody);
+      om.writeValue(response.getOutputStream(), responseDto); // 문자열을 만들지 않고 UTF-8 바이트로 바로 출력
     } catch (Exception e) {
       log.error("서버 파싱 에러");
     }
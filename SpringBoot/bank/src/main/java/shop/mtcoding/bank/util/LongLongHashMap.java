@@ -0,0 +1,186 @@
+package shop.mtcoding.bank.util;
+
+/**
+ * long → long 해시맵 (open addressing, linear probing)
+ * 
+ * - key/value를 long[] 하나에 번갈아 저장 [k0, v0, k1, v1, ...] → 항목당 16 byte, 박싱/노드 객체 없음
+ * - 슬롯 수는 2의 제곱이 아니어도 된다. (곱셈으로 범위 축소) → 예상 크기 / loadFactor 만큼만 할당
+ * - 삭제는 tombstone 없이 뒤 항목을 당겨오는 backward shift
+ * - key 0은 빈 슬롯 표시로 사용하므로 넣을 수 없다.
+ * 
+ * 스레드 안전하지 않음. 동시 접근은 호출하는 쪽에서 락으로 보호한다.
+ * 단, get()은 배열을 한 번만 읽어서 쓰기 도중에 호출돼도 예외 없이 끝나므로 StampedLock 낙관적 읽기에 쓸 수 있다.
+ */
+public class LongLongHashMap {
+  private static final long EMPTY = 0L;
+  private static final long PHI = 0x9E3779B97F4A7C15L;
+  private static final int MAX_SLOTS = 1 << 30;
+
+  private final float loadFactor;
+  private long[] table;
+  private int size;
+  private int resizeAt;
+
+  public LongLongHashMap(int expectedSize) {
+    this(expectedSize, 0.8f);
+  }
+
+  public LongLongHashMap(int expectedSize, float loadFactor) {
+    if (loadFactor <= 0 || loadFactor >= 1) {
+      throw new IllegalArgumentException("loadFactor는 0 ~ 1 사이여야 합니다: " + loadFactor);
+    }
+    this.loadFactor = loadFactor;
+    allocate(slotsFor(Math.max(expectedSize, 16)));
+  }
+
+  public long get(long key, long defaultValue) {
+    if (key == EMPTY) {
+      return defaultValue; // 빈 슬롯과 같은 값이라 그대로 찾으면 빈 슬롯의 0을 돌려준다.
+    }
+    long[] t = table;
+    int slots = t.length >> 1;
+    for (int i = slot(key, slots);; i = next(i, slots)) {
+      long k = t[i << 1];
+      if (k == key) {
+        return t[(i << 1) + 1];
+      }
+      if (k == EMPTY) {
+        return defaultValue;
+      }
+    }
+  }
+
+  public boolean containsKey(long key) {
+    return key != EMPTY && find(key) >= 0;
+  }
+
+  /**
+   * @return 새로 추가되었으면 true, 기존 값을 바꿨으면 false
+   */
+  public boolean put(long key, long value) {
+    if (key == EMPTY) {
+      throw new IllegalArgumentException("key 0은 사용할 수 없습니다.");
+    }
+    int slots = table.length >> 1;
+    int i = slot(key, slots);
+    while (true) {
+      long k = table[i << 1];
+      if (k == key) {
+        table[(i << 1) + 1] = value;
+        return false;
+      }
+      if (k == EMPTY) {
+        break;
+      }
+      i = next(i, slots);
+    }
+
+    table[i << 1] = key;
+    table[(i << 1) + 1] = value;
+    if (++size > resizeAt) {
+      resize(slots * 2L);
+    }
+    return true;
+  }
+
+  public boolean remove(long key) {
+    if (key == EMPTY) {
+      return false;
+    }
+    int i = find(key);
+    if (i < 0) {
+      return false;
+    }
+
+    // backward shift: 비운 자리(i) 뒤의 항목 중 원래 자리가 i 이전인 것을 당겨온다.
+    int slots = table.length >> 1;
+    int j = i;
+    while (true) {
+      j = next(j, slots);
+      long k = table[j << 1];
+      if (k == EMPTY) {
+        break;
+      }
+      int home = slot(k, slots);
+      if (distance(home, j, slots) >= distance(i, j, slots)) {
+        table[(i << 1) + 1] = table[(j << 1) + 1];
+        table[i << 1] = k;
+        i = j;
+      }
+    }
+    table[i << 1] = EMPTY;
+    table[(i << 1) + 1] = 0L;
+    size--;
+    return true;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int capacity() {
+    return table.length >> 1;
+  }
+
+  private int find(long key) {
+    int slots = table.length >> 1;
+    for (int i = slot(key, slots);; i = next(i, slots)) {
+      long k = table[i << 1];
+      if (k == key) {
+        return i;
+      }
+      if (k == EMPTY) {
+        return -1;
+      }
+    }
+  }
+
+  private void resize(long newSlots) {
+    if (newSlots > MAX_SLOTS) {
+      throw new IllegalStateException("최대 크기를 초과했습니다: " + size);
+    }
+    long[] old = table;
+    allocate((int) newSlots);
+    int slots = table.length >> 1;
+    for (int o = 0; o < old.length; o += 2) {
+      long k = old[o];
+      if (k != EMPTY) {
+        int i = slot(k, slots);
+        while (table[i << 1] != EMPTY) {
+          i = next(i, slots);
+        }
+        table[i << 1] = k;
+        table[(i << 1) + 1] = old[o + 1];
+      }
+    }
+  }
+
+  private void allocate(int slots) {
+    this.table = new long[slots << 1];
+    this.resizeAt = (int) Math.min(slots - 2L, (long) (slots * (double) loadFactor));
+  }
+
+  private int slotsFor(int expectedSize) {
+    long slots = (long) Math.ceil(expectedSize / (double) loadFactor) + 1;
+    if (slots > MAX_SLOTS) {
+      throw new IllegalArgumentException("expectedSize가 너무 큽니다: " + expectedSize);
+    }
+    return (int) slots;
+  }
+
+  // 피보나치 해싱 후 상위 32bit를 [0, slots) 범위로 축소 (연속된 계좌번호도 고르게 퍼짐)
+  private static int slot(long key, int slots) {
+    long hash = (key * PHI) >>> 32;
+    return (int) ((hash * slots) >>> 32);
+  }
+
+  private static int next(int i, int slots) {
+    return ++i == slots ? 0 : i;
+  }
+
+  // from → to 로 몇 칸 (원형)
+  private static int distance(int from, int to, int slots) {
+    int d = to - from;
+    return d < 0 ? d + slots : d;
+  }
+}
@@ -0,0 +1,59 @@
+package shop.mtcoding.bank.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 버킷 링 기반 슬라이딩 윈도우 합계 (lock-free)
+ * 
+ * bucketMillis 단위 버킷 bucketCount개를 링으로 돌려 쓴다. (예: 1분 x 60 = 최근 1시간)
+ * 각 버킷은 (epoch, sum) 불변 객체이고 CAS로 교체하므로 락이 없다.
+ * sum()은 버킷 수만큼만 보므로 거래 이력이 아무리 많아도 O(1)이다.
+ */
+public class SlidingWindowCounter {
+  private final int bucketCount;
+  private final long bucketMillis;
+  private final AtomicReferenceArray<Bucket> buckets;
+
+  public SlidingWindowCounter(int bucketCount, long bucketMillis) {
+    this.bucketCount = bucketCount;
+    this.bucketMillis = bucketMillis;
+    this.buckets = new AtomicReferenceArray<>(bucketCount);
+  }
+
+  public void add(long nowMillis, long amount) {
+    long epoch = nowMillis / bucketMillis;
+    int index = (int) (epoch % bucketCount);
+    while (true) {
+      Bucket current = buckets.get(index);
+      if (current != null && current.epoch > epoch) return; // 윈도우를 이미 지나간 과거 기록 (rebuild 중)
+
+      Bucket next = (current != null && current.epoch == epoch)
+          ? new Bucket(epoch, current.sum + amount)
+          : new Bucket(epoch, amount); // 한 바퀴 돈 오래된 버킷은 새로 시작
+      if (buckets.compareAndSet(index, current, next)) return;
+    }
+  }
+
+  // 최근 bucketCount개 버킷(현재 버킷 포함)의 합
+  public long sum(long nowMillis) {
+    long epoch = nowMillis / bucketMillis;
+    long total = 0;
+    for (int i = 0; i < bucketCount; i++) {
+      Bucket bucket = buckets.get(i);
+      if (bucket != null && bucket.epoch > epoch - bucketCount && bucket.epoch <= epoch) {
+        total += bucket.sum;
+      }
+    }
+    return total;
+  }
+
+  private static final class Bucket {
+    private final long epoch;
+    private final long sum;
+
+    private Bucket(long epoch, long sum) {
+      this.epoch = epoch;
+      this.sum = sum;
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package shop.mtcoding.bank.web;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import shop.mtcoding.bank.dto.ResponseDto;
+import shop.mtcoding.bank.dto.account.AccountReqDto.BulkTransferReqDto;
+import shop.mtcoding.bank.dto.account.AccountReqDto.TransferReqDto;
+import shop.mtcoding.bank.dto.account.AccountResDto.AccountListResDto;
+import shop.mtcoding.bank.dto.account.AccountResDto.BulkTransferResDto;
+import shop.mtcoding.bank.dto.account.AccountResDto.StatementResDto;
+import shop.mtcoding.bank.dto.account.AccountResDto.TransactionListResDto;
+import shop.mtcoding.bank.dto.account.AccountResDto.TransferResDto;
+import shop.mtcoding.bank.dto.user.UserResDto.UserInfoResDto;
+import shop.mtcoding.bank.service.AccountService;
+import shop.mtcoding.bank.service.AccountSnapshotService;
+import shop.mtcoding.bank.service.AccountTransferService;
+import shop.mtcoding.bank.service.UserService;
+
+@RequiredArgsConstructor
+@RequestMapping("/api")
+@RestController
+public class AccountController {
+  private final UserService userService;
+  private final AccountService accountService;
+  private final AccountTransferService accountTransferService;
+  private final AccountSnapshotService accountSnapshotService;
+
+  @GetMapping("/s/account/login-user")
+  public ResponseEntity<?> findUserAccount(Authentication authentication) {
+    UserInfoResDto loginUser = userService.회원정보보기(authentication.getName());
+    AccountListResDto accountListResDto = accountService.계좌목록보기_유저별(loginUser.getId());
+
+    return new ResponseEntity<>(new ResponseDto<>(1, ResponseDto.ACCOUNT_LIST_FOUND, accountListResDto), HttpStatus.OK);
+  }
+
+  // 거래내역 (최신순, 20건씩: /api/s/account/1/transaction?page=0)
+  @GetMapping("/s/account/{accountId}/transaction")
+  public ResponseEntity<?> findTransactionList(@PathVariable Long accountId,
+      @RequestParam(defaultValue = "0") int page, Authentication authentication) {
+    UserInfoResDto loginUser = userService.회원정보보기(authentication.getName());
+    TransactionListResDto transactionListResDto = accountService.거래내역보기(accountId, loginUser.getId(), page);
+
+    return new ResponseEntity<>(new ResponseDto<>(1, ResponseDto.TRANSACTION_LIST_FOUND, transactionListResDto), HttpStatus.OK);
+  }
+
+  @PostMapping("/s/account/transfer")
+  public ResponseEntity<?> transferAccount(@RequestBody @Valid TransferReqDto transferReqDto,
+      BindingResult bindingResult, Authentication authentication) {
+    UserInfoResDto loginUser = userService.회원정보보기(authentication.getName());
+    TransferResDto transferResDto = accountTransferService.계좌이체(transferReqDto, loginUser.getId());
+
+    return new ResponseEntity<>(new ResponseDto<>(1, ResponseDto.TRANSFER_DONE, transferResDto), HttpStatus.CREATED);
+  }
+
+  @PostMapping("/s/account/bulk-transfer")
+  public ResponseEntity<?> bulkTransferAccount(@RequestBody @Valid BulkTransferReqDto bulkTransferReqDto,
+      BindingResult bindingResult, Authentication authentication) {
+    UserInfoResDto loginUser = userService.회원정보보기(authentication.getName());
+    BulkTransferResDto bulkTransferResDto = accountTransferService.일괄이체(bulkTransferReqDto, loginUser.getId());
+
+    return new ResponseEntity<>(new ResponseDto<>(1, ResponseDto.BULK_TRANSFER_DONE, bulkTransferResDto), HttpStatus.CREATED);
+  }
+
+  // 기간 명세서 (예: /api/s/account/1/statement?from=2025-01-01&to=2025-01-31)
+  @GetMapping("/s/account/{accountId}/statement")
+  public ResponseEntity<?> statement(@PathVariable Long accountId,
+      @RequestParam @DateTimeFormat(iso = ISO.DATE) LocalDate from,
+      @RequestParam @DateTimeFormat(iso = ISO.DATE) LocalDate to, Authentication authentication) {
+    UserInfoResDto loginUser = userService.회원정보보기(authentication.getName());
+    StatementResDto statementResDto = accountSnapshotService.계좌명세서보기(accountId, loginUser.getId(), from, to);
+
+    return new ResponseEntity<>(new ResponseDto<>(1, ResponseDto.STATEMENT_FOUND, statementResDto), HttpStatus.OK);
+  }
+}
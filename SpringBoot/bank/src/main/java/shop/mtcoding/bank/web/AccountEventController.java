@@ -0,0 +1,29 @@
+package shop.mtcoding.bank.web;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.RequiredArgsConstructor;
+import shop.mtcoding.bank.dto.user.UserResDto.UserInfoResDto;
+import shop.mtcoding.bank.handler.event.BalanceEventHub;
+import shop.mtcoding.bank.service.UserService;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/s")
+@RestController
+public class AccountEventController {
+  private final UserService userService;
+  private final BalanceEventHub balanceEventHub;
+
+  // 로그인한 유저 소유 계좌의 잔액 변경을 SSE로 받는다. (폴링 대신)
+  @GetMapping(value = "/account/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribe(Authentication authentication) {
+    UserInfoResDto loginUser = userService.회원정보보기(authentication.getName());
+
+    return balanceEventHub.subscribe(loginUser.getId());
+  }
+}
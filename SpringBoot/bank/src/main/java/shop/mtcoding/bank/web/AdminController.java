@@ -0,0 +1,56 @@
+package shop.mtcoding.bank.web;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import shop.mtcoding.bank.dto.ResponseDto;
+import shop.mtcoding.bank.dto.admin.AdminResDto.CacheStatsResDto;
+import shop.mtcoding.bank.dto.admin.AdminResDto.SlowRequestResDto;
+import shop.mtcoding.bank.dto.reconciliation.ReconciliationResDto.RunResDto;
+import shop.mtcoding.bank.job.ReconciliationJob;
+import shop.mtcoding.bank.service.AdminService;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/admin")
+@RestController
+public class AdminController {
+  private final ReconciliationJob reconciliationJob;
+  private final AdminService adminService;
+
+  // 백그라운드로 시작하고 바로 응답, 같은 runId로 다시 호출하면 남은 구간부터 이어서 진행
+  @PostMapping("/reconciliation/{runId}")
+  public ResponseEntity<?> reconcile(@PathVariable String runId) {
+    RunResDto runResDto = reconciliationJob.start(runId);
+
+    return new ResponseEntity<>(new ResponseDto<>(1, ResponseDto.RECONCILIATION_STARTED, runResDto), HttpStatus.ACCEPTED);
+  }
+
+  @GetMapping("/reconciliation/{runId}")
+  public ResponseEntity<?> reconciliationStatus(@PathVariable String runId) {
+    RunResDto runResDto = reconciliationJob.status(runId);
+
+    return new ResponseEntity<>(new ResponseDto<>(1, ResponseDto.RECONCILIATION_FOUND, runResDto), HttpStatus.OK);
+  }
+
+  @GetMapping("/cache/stats")
+  public ResponseEntity<?> cacheStats() {
+    List<CacheStatsResDto> cacheStatsList = adminService.캐시통계보기();
+
+    return new ResponseEntity<>(new ResponseDto<>(1, ResponseDto.CACHE_STATS_FOUND, cacheStatsList), HttpStatus.OK);
+  }
+
+  @GetMapping("/profiler/slow")
+  public ResponseEntity<?> slowRequests() {
+    List<SlowRequestResDto> slowRequestList = adminService.느린요청보기();
+
+    return new ResponseEntity<>(new ResponseDto<>(1, ResponseDto.SLOW_REQUESTS_FOUND, slowRequestList), HttpStatus.OK);
+  }
+}
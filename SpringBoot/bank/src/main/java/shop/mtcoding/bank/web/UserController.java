@@ -26,6 +26,6 @@ public class UserController {
   public ResponseEntity<?> join(@RequestBody @Valid JoinReqDto joinReqDto, BindingResult bindingResult) {
     JoinResDto joinResDto = userSerivce.회원가입(joinReqDto);
     
-    return new ResponseEntity<>(new ResponseDto<>(1, "회원가입 성공", joinResDto), HttpStatus.CREATED);
+    return new ResponseEntity<>(new ResponseDto<>(1, ResponseDto.JOIN_SUCCESS, joinResDto), HttpStatus.CREATED);
   }
 }
@@ -0,0 +1,67 @@
+package shop.mtcoding.bank.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import shop.mtcoding.bank.config.dummy.DummyObject;
+import shop.mtcoding.bank.config.jackson.BankJacksonModule;
+import shop.mtcoding.bank.dto.user.UserResDto.JoinResDto;
+
+// 직접 만든 serializer 결과가 기본 ObjectMapper 결과와 같아야 한다.
+public class ResponseDtoSerializerTest extends DummyObject {
+  private final ObjectMapper defaultOm = new ObjectMapper();
+  private final ObjectMapper bankOm = BankJacksonModule.newObjectMapper();
+
+  @Test
+  public void 회원가입_응답_test() throws Exception {
+    // given
+    JoinResDto joinResDto = new JoinResDto(newMockUser(1L, "ssar", "쌀"));
+    ResponseDto<?> responseDto = new ResponseDto<>(1, "회원가입 성공", joinResDto);
+
+    // when
+    String expected = defaultOm.writeValueAsString(responseDto);
+    String actual = bankOm.writeValueAsString(responseDto);
+    byte[] actualBytes = bankOm.writeValueAsBytes(responseDto); // UTF8JsonGenerator 경로
+    System.out.println("테스트 : " + actual);
+
+    // then
+    assertThat(actual).isEqualTo(expected);
+    assertThat(new String(actualBytes, "UTF-8")).isEqualTo(expected);
+  }
+
+  @Test
+  public void 에러_응답_test() throws Exception {
+    // given
+    Map<String, String> errorMap = new HashMap<>();
+    errorMap.put("username", "영문/숫자 2-20자 이내로 작성해주세요");
+
+    // then
+    for (ResponseDto<?> responseDto : new ResponseDto<?>[] {
+        new ResponseDto<>(-1, "유효성 검사 실패", errorMap),
+        new ResponseDto<>(-1, "권한없음", null),
+        new ResponseDto<>(-1, "미리 등록되지 않은 \"메시지\"", null),
+        new ResponseDto<>(null, null, null) }) {
+      assertThat(bankOm.writeValueAsString(responseDto)).isEqualTo(defaultOm.writeValueAsString(responseDto));
+    }
+  }
+
+  @Test
+  public void 고정msg_상수전부_미리인코딩_test() throws Exception {
+    // given
+    ResponseDto<?> responseDto = new ResponseDto<>(1, ResponseDto.BULK_TRANSFER_DONE, null);
+
+    // when
+    String actual = bankOm.writeValueAsString(responseDto);
+
+    // then
+    assertThat(ResponseDtoSerializer.MESSAGES).containsKeys(ResponseDto.JOIN_SUCCESS, ResponseDto.TRANSFER_DONE,
+        ResponseDto.BULK_TRANSFER_DONE, ResponseDto.SLOW_REQUESTS_FOUND, ResponseDto.TOO_MANY_REQUESTS);
+    assertThat(actual).isEqualTo(defaultOm.writeValueAsString(responseDto));
+  }
+}
@@ -0,0 +1,58 @@
+package shop.mtcoding.bank.dto.valid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.regex.Pattern;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+
+// 정규식과 CharClass 스캐너가 같은 결과를 내는지 property-based test
+public class CharClassTest {
+  private static final Pattern USERNAME = Pattern.compile("^[a-zA-Z0-9]{2,20}$");
+  private static final Pattern FULLNAME = Pattern.compile("[a-zA-Z가-힣]{1,20}");
+
+  @Property(tries = 5000)
+  public void username_regex와같다_test(@ForAll("candidates") String value) {
+    assertThat(CharClass.matchesAlphaNumeric(value, 2, 20)).isEqualTo(USERNAME.matcher(value).matches());
+  }
+
+  @Property(tries = 5000)
+  public void fullname_regex와같다_test(@ForAll("candidates") String value) {
+    assertThat(CharClass.matchesAlphaOrHangul(value, 1, 20)).isEqualTo(FULLNAME.matcher(value).matches());
+  }
+
+  @Property(tries = 5000)
+  public void 임의문자열_regex와같다_test(@ForAll String value) {
+    assertThat(CharClass.matchesAlphaNumeric(value, 2, 20)).isEqualTo(USERNAME.matcher(value).matches());
+    assertThat(CharClass.matchesAlphaOrHangul(value, 1, 20)).isEqualTo(FULLNAME.matcher(value).matches());
+  }
+
+  @Example
+  public void 경계값_test() {
+    assertThat(CharClass.matchesAlphaNumeric("a", 2, 20)).isFalse();
+    assertThat(CharClass.matchesAlphaNumeric("aaaaaaaaaaaaaaaaaaaa", 2, 20)).isTrue(); // 20자
+    assertThat(CharClass.matchesAlphaNumeric("aaaaaaaaaaaaaaaaaaaaa", 2, 20)).isFalse(); // 21자
+    assertThat(CharClass.matchesAlphaOrHangul("", 1, 20)).isFalse();
+    assertThat(CharClass.matchesAlphaOrHangul("가힣", 1, 20)).isTrue();
+    assertThat(CharClass.matchesAlphaOrHangul("ㄱ", 1, 20)).isFalse(); // 자음은 음절이 아님
+  }
+
+  // 범위 경계 문자들(/ : @ [ ` { 가 앞뒤, 힣 앞뒤)을 많이 섞은 문자열
+  @Provide
+  public Arbitrary<String> candidates() {
+    return Arbitraries.strings()
+        .withCharRange('a', 'z')
+        .withCharRange('A', 'Z')
+        .withCharRange('0', '9')
+        .withCharRange('가', '갅')
+        .withCharRange('힠', '힣')
+        .withChars('/', ':', '@', '[', '`', '{', ' ', '꯿', '힤', 'ㄱ', 'ㅎ')
+        .ofMinLength(0)
+        .ofMaxLength(24);
+  }
+}
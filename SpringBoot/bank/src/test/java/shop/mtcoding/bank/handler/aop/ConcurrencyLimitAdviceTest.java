@@ -0,0 +1,78 @@
+package shop.mtcoding.bank.handler.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import shop.mtcoding.bank.handler.ex.CustomOverloadException;
+
+public class ConcurrencyLimitAdviceTest {
+
+  // limit 1로 고정
+  private final ConcurrencyLimitAdvice concurrencyLimitAdvice = new ConcurrencyLimitAdvice(1, 1, 1);
+
+  @AfterEach
+  public void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  public void 요청스레드만_제한_배치작업은_통과_test() throws Throwable {
+    // given: 요청 하나가 자리를 잡고 멈춰 있음
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ProceedingJoinPoint blocking = joinPoint();
+    given(blocking.proceed()).willAnswer(invocation -> {
+      entered.countDown();
+      release.await();
+      return "요청";
+    });
+    CompletableFuture<Object> inFlight = CompletableFuture.supplyAsync(() -> {
+      RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+      try {
+        return concurrencyLimitAdvice.limitAdvice(blocking);
+      } catch (Throwable e) {
+        throw new IllegalStateException(e);
+      } finally {
+        RequestContextHolder.resetRequestAttributes();
+      }
+    });
+    assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+    ProceedingJoinPoint next = joinPoint();
+    given(next.proceed()).willReturn("배치");
+
+    // when: 요청 스레드가 아닌 곳(@Scheduled)에서 호출
+    Object batchResult = concurrencyLimitAdvice.limitAdvice(next);
+
+    // then: 배치는 통과, 같은 메서드를 요청 스레드에서 부르면 거절
+    assertThat(batchResult).isEqualTo("배치");
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    assertThatThrownBy(() -> concurrencyLimitAdvice.limitAdvice(next))
+        .isInstanceOf(CustomOverloadException.class);
+
+    release.countDown();
+    assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo("요청");
+  }
+
+  private ProceedingJoinPoint joinPoint() throws Exception {
+    ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+    MethodSignature signature = mock(MethodSignature.class);
+    given(joinPoint.getSignature()).willReturn(signature);
+    given(signature.getMethod()).willReturn(Object.class.getMethod("toString"));
+    return joinPoint;
+  }
+}
@@ -0,0 +1,233 @@
+package shop.mtcoding.bank.handler.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import shop.mtcoding.bank.handler.ex.CustomApiException;
+
+public class BalanceEventHubTest {
+
+  private final List<TestEmitter> emitters = new CopyOnWriteArrayList<>();
+  private volatile CountDownLatch stall; // null이 아니면 다음에 만든 emitter는 send에서 막힌다.
+
+  private final BalanceEventHub hub = new BalanceEventHub() {
+    @Override
+    SseEmitter newEmitter() {
+      TestEmitter emitter = new TestEmitter(stall);
+      emitters.add(emitter);
+      return emitter;
+    }
+  };
+
+  @AfterEach
+  public void tearDown() {
+    if (stall != null) stall.countDown();
+    hub.shutdown();
+  }
+
+  @Test
+  public void 동시구독_유저당제한_test() throws Exception {
+    // given
+    int threads = 20;
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicInteger rejected = new AtomicInteger();
+    List<Runnable> tasks = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      tasks.add(() -> {
+        try {
+          start.await();
+          hub.subscribe(1L);
+        } catch (CustomApiException e) {
+          rejected.incrementAndGet();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+    }
+
+    // when
+    tasks.forEach(pool::execute);
+    start.countDown();
+    pool.shutdown();
+    pool.awaitTermination(5, TimeUnit.SECONDS);
+    System.out.println("테스트 : 거절 " + rejected.get());
+
+    // then
+    assertThat(hub.getSubscriberCount(1L)).isEqualTo(5);
+    assertThat(rejected.get()).isEqualTo(15);
+  }
+
+  @Test
+  public void 거래이벤트_합치지않고_순서대로전송_test() throws Exception {
+    // given
+    hub.subscribe(1L);
+    TestEmitter emitter = emitters.get(0);
+
+    // when: 같은 계좌 거래 3건
+    hub.onBalanceChanged(event(1L, 10L, 1L, 900L));
+    hub.onBalanceChanged(event(1L, 10L, 2L, 800L));
+    hub.onBalanceChanged(event(1L, 10L, 3L, 700L));
+    emitter.awaitEvents(3);
+
+    // then
+    assertThat(emitter.transactionIds()).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  public void 느린구독자_다른구독자영향없음_test() throws Exception {
+    // given: user 1의 연결은 전송에서 멈춘다.
+    stall = new CountDownLatch(1);
+    hub.subscribe(1L);
+    stall = null;
+    for (long userId = 2; userId <= 30; userId++) {
+      hub.subscribe(userId);
+    }
+
+    // when
+    for (long userId = 1; userId <= 30; userId++) {
+      hub.onBalanceChanged(event(userId, userId, userId, 1000L));
+    }
+
+    // then
+    for (TestEmitter emitter : emitters.subList(1, emitters.size())) {
+      assertThat(emitter.awaitEvents(1)).isTrue();
+    }
+    assertThat(emitters.get(0).transactionIds()).isEmpty();
+  }
+
+  @Test
+  public void 전송지연_watchdog_구독해제_test() throws Exception {
+    // given
+    CountDownLatch release = new CountDownLatch(1);
+    stall = release;
+    hub.subscribe(1L);
+    TestEmitter emitter = emitters.get(0);
+    hub.onBalanceChanged(event(1L, 10L, 1L, 900L));
+    assertThat(emitter.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // when: 전송 시작 후 timeout이 지난 시각으로 검사
+    hub.evictStalled(System.currentTimeMillis() + 60_000L);
+    int countAfterEvict = hub.getSubscriberCount(1L);
+    release.countDown(); // 쓰기 타임아웃으로 막혔던 전송이 풀림
+
+    // then
+    assertThat(countAfterEvict).isEqualTo(0);
+    assertThat(emitter.completedWithError.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  public void ping실패_emitter완료_test() throws Exception {
+    // given
+    hub.subscribe(1L);
+    TestEmitter emitter = emitters.get(0);
+    emitter.fail = true; // 클라이언트가 이미 끊김
+
+    // when
+    hub.heartbeat();
+
+    // then
+    assertThat(emitter.completedWithError.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(hub.getSubscriberCount(1L)).isEqualTo(0);
+  }
+
+  @Test
+  public void 버퍼초과_오래된것버림_dropped알림_test() throws Exception {
+    // given: 첫 전송을 막아두고 버퍼(32)를 넘게 쌓는다.
+    CountDownLatch release = new CountDownLatch(1);
+    stall = release;
+    hub.subscribe(1L);
+    TestEmitter emitter = emitters.get(0);
+    hub.onBalanceChanged(event(1L, 10L, 0L, 1000L));
+    assertThat(emitter.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    for (long id = 1; id <= 40; id++) {
+      hub.onBalanceChanged(event(1L, 10L, id, 1000L - id));
+    }
+
+    // when
+    release.countDown();
+    emitter.awaitEvents(1 + 32);
+    System.out.println("테스트 : " + emitter.names);
+
+    // then
+    assertThat(hub.getDroppedCount()).isEqualTo(8);
+    assertThat(emitter.names).contains("dropped");
+    assertThat(emitter.transactionIds()).hasSize(1 + 32);
+    assertThat(emitter.transactionIds().get(1)).isEqualTo(9L);
+  }
+
+  private BalanceChangedEvent event(Long userId, Long accountId, Long transactionId, Long balance) {
+    return new BalanceChangedEvent(userId, accountId, 1111L, balance, transactionId, "출금", 100L,
+        LocalDateTime.now());
+  }
+
+  static class TestEmitter extends SseEmitter {
+    private final CountDownLatch stall;
+    private final List<BalanceChangedEvent> events = new CopyOnWriteArrayList<>();
+    private final List<String> names = new CopyOnWriteArrayList<>();
+    private final CountDownLatch sendStarted = new CountDownLatch(1);
+    private final CountDownLatch completedWithError = new CountDownLatch(1);
+    private volatile boolean fail;
+
+    TestEmitter(CountDownLatch stall) {
+      this.stall = stall;
+    }
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+      sendStarted.countDown();
+      if (stall != null) {
+        try {
+          stall.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException(e);
+        }
+      }
+      if (fail) throw new IOException("Broken pipe");
+      for (DataWithMediaType data : builder.build()) {
+        Object value = data.getData();
+        if (value instanceof BalanceChangedEvent) {
+          events.add((BalanceChangedEvent) value);
+        } else if (value instanceof String && ((String) value).startsWith("event:")) {
+          names.add(((String) value).split("\n")[0].substring("event:".length()));
+        }
+      }
+    }
+
+    @Override
+    public void completeWithError(Throwable ex) {
+      completedWithError.countDown();
+    }
+
+    boolean awaitEvents(int count) throws InterruptedException {
+      long deadline = System.currentTimeMillis() + 5_000L;
+      while (events.size() < count && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+      return events.size() >= count;
+    }
+
+    List<Long> transactionIds() {
+      List<Long> ids = new ArrayList<>();
+      for (BalanceChangedEvent event : events) {
+        ids.add(event.getTransactionId());
+      }
+      return ids;
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package shop.mtcoding.bank.handler.profile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import jakarta.validation.Validation;
+import shop.mtcoding.bank.dto.user.userReqDto.JoinReqDto;
+
+public class ProfilingValidatorTest {
+
+  @AfterEach
+  public void clear() {
+    RequestProfile.clear();
+  }
+
+  @Test
+  public void 빈검증_구간측정_test() throws Exception {
+    // given
+    RequestProfile profile = RequestProfile.start("POST", "/api/join");
+    ProfilingValidator validator = new ProfilingValidator(
+        new SpringValidatorAdapter(Validation.buildDefaultValidatorFactory().getValidator()));
+    JoinReqDto joinReqDto = new JoinReqDto();
+    Errors errors = new BeanPropertyBindingResult(joinReqDto, "joinReqDto");
+
+    // when
+    validator.validate(joinReqDto, errors);
+    System.out.println("테스트 : " + profile.getNanos(Stage.VALIDATION) + ", " + errors.getFieldErrorCount());
+
+    // then: 검증 결과는 그대로, 검증 시간은 VALIDATION 구간에 누적
+    assertThat(errors.hasFieldErrors("username")).isTrue();
+    assertThat(profile.getNanos(Stage.VALIDATION)).isPositive();
+  }
+}
@@ -0,0 +1,64 @@
+package shop.mtcoding.bank.handler.profile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class SlowRequestRingTest {
+
+  @AfterEach
+  public void clear() {
+    RequestProfile.clear();
+  }
+
+  @Test
+  public void 링_덮어쓰기_최신순_test() throws Exception {
+    // given
+    SlowRequestRing ring = new SlowRequestRing(3);
+
+    // when
+    for (int i = 1; i <= 5; i++) {
+      RequestProfile profile = RequestProfile.start("GET", "/api/" + i);
+      ring.add(new SlowRequest(profile, 200, i));
+    }
+    List<SlowRequest> slowRequests = ring.snapshot();
+
+    // then
+    assertThat(slowRequests).extracting(SlowRequest::getUri).containsExactly("/api/5", "/api/4", "/api/3");
+  }
+
+  @Test
+  public void 구간측정_누적_test() throws Exception {
+    // given
+    RequestProfile profile = RequestProfile.start("POST", "/api/join");
+
+    // when
+    StageTimer first = StageTimer.start(Stage.REPOSITORY);
+    Thread.sleep(5);
+    first.stop();
+    first.stop(); // 두 번 stop해도 한 번만 누적
+    StageTimer second = StageTimer.start(Stage.REPOSITORY);
+    second.stop();
+    System.out.println("테스트 : " + profile.getNanos(Stage.REPOSITORY));
+
+    // then
+    assertThat(profile.getNanos(Stage.REPOSITORY)).isGreaterThanOrEqualTo(5_000_000L).isLessThan(1_000_000_000L);
+    assertThat(profile.getNanos(Stage.BCRYPT)).isZero();
+  }
+
+  @Test
+  public void 프로파일없음_noop_test() throws Exception {
+    // given: 샘플링에서 빠진 요청
+
+    // when
+    StageTimer timer = StageTimer.start(Stage.JACKSON);
+    timer.stop();
+
+    // then
+    assertThat(RequestProfile.current()).isNull();
+    assertThat(StageTimer.start(Stage.BCRYPT)).isSameAs(timer);
+  }
+}
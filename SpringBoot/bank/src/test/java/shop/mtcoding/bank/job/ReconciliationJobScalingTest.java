@@ -0,0 +1,63 @@
+package shop.mtcoding.bank.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import shop.mtcoding.bank.config.dummy.DummyDataGenerator;
+import shop.mtcoding.bank.domain.account.AccountRepository;
+import shop.mtcoding.bank.domain.reconciliation.ReconciliationChunkRepository;
+import shop.mtcoding.bank.domain.reconciliation.ReconciliationDiscrepancyRepository;
+import shop.mtcoding.bank.domain.reconciliation.ReconciliationRunRepository;
+import shop.mtcoding.bank.dto.reconciliation.ReconciliationResDto.RunResDto;
+
+// 병렬도별 원장 대사 시간 측정 (H2 메모리 DB, 다른 테스트와 DB를 나누려고 url을 따로 둔다)
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:reconciliation;MODE=MySQL")
+public class ReconciliationJobScalingTest {
+  private static final int USERS = 5_000; // 계좌 10,000개, 거래 약 200,000건
+  private static final long CHUNK_SIZE = 500;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private AccountRepository accountRepository;
+  @Autowired
+  private ReconciliationRunRepository runRepository;
+  @Autowired
+  private ReconciliationChunkRepository chunkRepository;
+  @Autowired
+  private ReconciliationDiscrepancyRepository discrepancyRepository;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Test
+  public void 병렬도별_처리시간_test() throws Exception {
+    // given: 잔액 = 개설 잔액 + 입금 - 출금 이 맞는 데이터
+    new DummyDataGenerator(jdbcTemplate, USERS, 2, 20, 90, 4, 1000, 1).run(null);
+    int cores = Runtime.getRuntime().availableProcessors();
+    long baseline = 0;
+
+    for (int parallelism = 1; parallelism <= Math.min(cores, 8); parallelism *= 2) {
+      ReconciliationJob reconciliationJob = new ReconciliationJob(accountRepository, runRepository,
+          chunkRepository, discrepancyRepository, transactionManager, CHUNK_SIZE, parallelism, 1);
+      try {
+        // when
+        RunResDto runResDto = reconciliationJob.run("scaling-" + parallelism);
+        if (parallelism == 1) baseline = runResDto.getElapsedMillis();
+        System.out.println("테스트 : 병렬도 " + parallelism + ", " + runResDto.getElapsedMillis() + "ms, 속도 x"
+            + String.format("%.2f", (double) baseline / Math.max(runResDto.getElapsedMillis(), 1)));
+
+        // then
+        assertThat(runResDto.getStatus()).isEqualTo("완료");
+        assertThat(runResDto.getAccountCount()).isGreaterThanOrEqualTo(USERS * 2L);
+        assertThat(runResDto.getDiscrepancyCount()).isEqualTo(0L);
+      } finally {
+        reconciliationJob.shutdown();
+      }
+    }
+  }
+}
@@ -0,0 +1,196 @@
+package shop.mtcoding.bank.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import shop.mtcoding.bank.config.shard.ShardContext;
+import shop.mtcoding.bank.domain.account.AccountLedgerSum;
+import shop.mtcoding.bank.domain.account.AccountRepository;
+import shop.mtcoding.bank.domain.reconciliation.ReconciliationChunk;
+import shop.mtcoding.bank.domain.reconciliation.ReconciliationChunkRepository;
+import shop.mtcoding.bank.domain.reconciliation.ReconciliationDiscrepancy;
+import shop.mtcoding.bank.domain.reconciliation.ReconciliationDiscrepancyRepository;
+import shop.mtcoding.bank.domain.reconciliation.ReconciliationRun;
+import shop.mtcoding.bank.domain.reconciliation.ReconciliationRunEnum;
+import shop.mtcoding.bank.domain.reconciliation.ReconciliationRunRepository;
+import shop.mtcoding.bank.dto.reconciliation.ReconciliationResDto.RunResDto;
+
+@ExtendWith(MockitoExtension.class)
+public class ReconciliationJobTest {
+
+  @Mock
+  private AccountRepository accountRepository;
+
+  @Mock
+  private ReconciliationRunRepository runRepository;
+
+  @Mock
+  private ReconciliationChunkRepository chunkRepository;
+
+  @Mock
+  private ReconciliationDiscrepancyRepository discrepancyRepository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private ReconciliationJob reconciliationJob;
+
+  @BeforeEach
+  public void setup() {
+    reconciliationJob = new ReconciliationJob(accountRepository, runRepository, chunkRepository,
+        discrepancyRepository, transactionManager, 10, 2, 1);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    reconciliationJob.shutdown();
+  }
+
+  @Test
+  public void 재개_저장된구간계획사용_test() throws Exception {
+    // given: 처음 실행 때 1~20, 10개씩 → [1,10] 완료. 그 사이 계좌가 늘고 chunk-size 설정이 바뀌어도 계획은 그대로
+    ReconciliationRun run = ReconciliationRun.builder()
+        .runId("run-1")
+        .shard(0)
+        .minId(1L)
+        .maxId(20L)
+        .chunkSize(10L)
+        .status(ReconciliationRunEnum.FAILED)
+        .build();
+    ReconciliationChunk done = ReconciliationChunk.builder()
+        .runId("run-1").shard(0).fromId(1L).toId(10L).accountCount(10L).discrepancyCount(0L)
+        .build();
+
+    // stub
+    given(runRepository.findByRunIdOrderByShardAsc("run-1")).willReturn(List.of(run));
+    given(runRepository.save(any())).willAnswer(returnsFirstArg());
+    given(chunkRepository.findByRunId("run-1")).willReturn(List.of(done));
+    given(accountRepository.streamLedgerSumByIdBetween(11L, 20L)).willReturn(Stream.of(sum(11L, 1000L, 1000L, 0L, 0L)));
+
+    // when
+    RunResDto runResDto = reconciliationJob.run("run-1");
+    System.out.println("테스트 : " + runResDto);
+
+    // then
+    verify(accountRepository, never()).findMinId();
+    verify(accountRepository, never()).streamLedgerSumByIdBetween(eq(1L), anyLong());
+    assertThat(run.getStatus()).isEqualTo(ReconciliationRunEnum.DONE);
+    assertThat(runResDto.getChunkCount()).isEqualTo(2L);
+    assertThat(runResDto.getStatus()).isEqualTo("완료");
+  }
+
+  @Test
+  public void 계좌별개설잔액_기준_불일치_test() throws Exception {
+    // given
+    // stub
+    given(runRepository.findByRunIdOrderByShardAsc("run-2")).willReturn(List.of());
+    given(runRepository.save(any())).willAnswer(returnsFirstArg());
+    given(accountRepository.findMinId()).willReturn(1L);
+    given(accountRepository.findMaxId()).willReturn(2L);
+    given(accountRepository.streamLedgerSumByIdBetween(1L, 2L)).willReturn(Stream.of(
+        sum(1L, 6000L, 5000L, 1000L, 0L), // 개설 5000 + 입금 1000 = 6000 (정상)
+        sum(2L, 1500L, 1000L, 0L, 0L))); // 개설 1000인데 거래 없이 1500 (불일치)
+
+    // when
+    reconciliationJob.run("run-2");
+
+    // then
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<ReconciliationDiscrepancy>> captor = ArgumentCaptor.forClass(List.class);
+    verify(discrepancyRepository).saveAll(captor.capture());
+    List<ReconciliationDiscrepancy> discrepancies = captor.getValue();
+    assertThat(discrepancies).hasSize(1);
+    assertThat(discrepancies.get(0).getAccountId()).isEqualTo(2L);
+    assertThat(discrepancies.get(0).getExpectedBalance()).isEqualTo(1000L);
+  }
+
+  @Test
+  public void 구간실패_실패기록후_재시작가능_test() throws Exception {
+    // given
+    ReconciliationRun run = ReconciliationRun.builder()
+        .runId("run-3").shard(0).minId(1L).maxId(5L).chunkSize(10L).status(ReconciliationRunEnum.RUNNING)
+        .build();
+
+    // stub
+    given(runRepository.findByRunIdOrderByShardAsc("run-3")).willReturn(List.of(run));
+    given(runRepository.save(any())).willAnswer(returnsFirstArg());
+    given(accountRepository.streamLedgerSumByIdBetween(1L, 5L)).willThrow(new IllegalStateException("커넥션 끊김"));
+
+    // when
+    RunResDto first = reconciliationJob.run("run-3");
+
+    // then: 실패로 기록되고 같은 runId로 다시 시작할 수 있다.
+    assertThat(first.getStatus()).isEqualTo("실패");
+    willReturn(Stream.empty()).given(accountRepository).streamLedgerSumByIdBetween(1L, 5L);
+    assertThat(reconciliationJob.run("run-3").getStatus()).isEqualTo("완료");
+  }
+
+  @Test
+  public void 샤드별_구간계획_모든샤드검사_test() throws Exception {
+    // given: 샤드 2개, id는 (id - 1) % 2 가 샤드 → 0번 샤드 1, 3 / 1번 샤드 2, 4
+    ReconciliationJob shardedJob = new ReconciliationJob(accountRepository, runRepository, chunkRepository,
+        discrepancyRepository, transactionManager, 10, 2, 2);
+    List<ReconciliationRun> saved = new ArrayList<>();
+
+    // stub: 조회 결과는 호출한 스레드의 현재 샤드에 따라 다르다.
+    given(runRepository.findByRunIdOrderByShardAsc("run-4")).willReturn(List.of()).willAnswer(invocation -> saved);
+    given(runRepository.save(any())).willAnswer(invocation -> {
+      saved.add(invocation.getArgument(0));
+      return invocation.getArgument(0);
+    });
+    given(accountRepository.findMinId()).willAnswer(invocation -> ShardContext.current() == 0 ? 1L : 2L);
+    given(accountRepository.findMaxId()).willAnswer(invocation -> ShardContext.current() == 0 ? 3L : 4L);
+    given(accountRepository.streamLedgerSumByIdBetween(anyLong(), anyLong())).willAnswer(invocation ->
+        ShardContext.current() == 0
+            ? Stream.of(sum(1L, 1000L, 1000L, 0L, 0L), sum(3L, 1000L, 1000L, 0L, 0L))
+            : Stream.of(sum(2L, 1000L, 1000L, 0L, 0L), sum(4L, 900L, 1000L, 0L, 0L)));
+
+    try {
+      // when
+      RunResDto runResDto = shardedJob.run("run-4");
+      System.out.println("테스트 : " + runResDto);
+
+      // then: 샤드마다 계획 1개, 구간 1개씩 검사하고 완료 기록에 샤드가 남는다.
+      assertThat(saved).extracting(ReconciliationRun::getShard).containsExactly(0, 1);
+      assertThat(runResDto.getChunkCount()).isEqualTo(2L);
+      assertThat(runResDto.getStatus()).isEqualTo("완료");
+      ArgumentCaptor<ReconciliationChunk> captor = ArgumentCaptor.forClass(ReconciliationChunk.class);
+      verify(chunkRepository, times(2)).save(captor.capture());
+      assertThat(captor.getAllValues()).extracting(ReconciliationChunk::getShard).containsExactlyInAnyOrder(0, 1);
+    } finally {
+      shardedJob.shutdown();
+    }
+  }
+
+  private AccountLedgerSum sum(Long accountId, Long balance, Long openingBalance, Long depositAmount,
+      Long withdrawAmount) {
+    return new AccountLedgerSum() {
+      public Long getAccountId() { return accountId; }
+      public Long getBalance() { return balance; }
+      public Long getOpeningBalance() { return openingBalance; }
+      public Long getDepositAmount() { return depositAmount; }
+      public Long getWithdrawAmount() { return withdrawAmount; }
+    };
+  }
+}
@@ -0,0 +1,129 @@
+package shop.mtcoding.bank.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import shop.mtcoding.bank.domain.account.AccountRepository;
+import shop.mtcoding.bank.domain.account.AccountSummary;
+import shop.mtcoding.bank.domain.transaction.TransactionRepository;
+import shop.mtcoding.bank.domain.transaction.TransactionSummary;
+import shop.mtcoding.bank.domain.transaction.TrasactionEnum;
+import shop.mtcoding.bank.domain.user.UserRepository;
+import shop.mtcoding.bank.domain.user.UserSummary;
+import shop.mtcoding.bank.dto.account.AccountResDto.AccountListResDto;
+import shop.mtcoding.bank.dto.account.AccountResDto.TransactionListResDto;
+import shop.mtcoding.bank.handler.ex.CustomApiException;
+
+@ExtendWith(MockitoExtension.class)
+public class AccountServiceTest {
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private AccountRepository accountRepository;
+
+  @Mock
+  private TransactionRepository transactionRepository;
+
+  @InjectMocks
+  private AccountService accountService;
+
+  @Test
+  public void 계좌목록보기_유저별_test() throws Exception {
+    // given
+    Long userId = 1L;
+
+    // stub
+    UserSummary ssar = mock(UserSummary.class);
+    given(ssar.getFullname()).willReturn("쌀");
+    given(userRepository.findSummaryById(userId)).willReturn(Optional.of(ssar));
+    AccountSummary account = mock(AccountSummary.class);
+    given(account.getId()).willReturn(1L);
+    given(account.getNumber()).willReturn(1111L);
+    given(account.getBalance()).willReturn(1000L);
+    given(accountRepository.findSummaryByUserIdOrderByIdDesc(userId)).willReturn(List.of(account));
+
+    // when
+    AccountListResDto accountListResDto = accountService.계좌목록보기_유저별(userId);
+    System.out.println("테스트 : " + accountListResDto);
+
+    // then
+    assertThat(accountListResDto.getFullname()).isEqualTo("쌀");
+    assertThat(accountListResDto.getAccounts()).hasSize(1);
+    assertThat(accountListResDto.getAccounts().get(0).getNumber()).isEqualTo(1111L);
+  }
+
+  @Test
+  public void 계좌목록보기_유저없음_test() throws Exception {
+    // stub
+    given(userRepository.findSummaryById(1L)).willReturn(Optional.empty());
+
+    // when, then
+    assertThatThrownBy(() -> accountService.계좌목록보기_유저별(1L))
+        .isInstanceOf(CustomApiException.class);
+  }
+
+  @Test
+  public void 거래내역보기_test() throws Exception {
+    // given
+    Long accountId = 1L;
+    Long userId = 1L;
+
+    // stub
+    given(accountRepository.findUserIdById(accountId)).willReturn(Optional.of(userId));
+    TransactionSummary withdraw = mock(TransactionSummary.class);
+    given(withdraw.getGubun()).willReturn(TrasactionEnum.WITHDRAW);
+    given(withdraw.getAmount()).willReturn(100L);
+    given(withdraw.getWithdrawAccountId()).willReturn(accountId);
+    given(withdraw.getWithdrawAccountBalance()).willReturn(900L);
+    given(transactionRepository.findSummaryByAccountId(accountId, PageRequest.of(0, 20)))
+        .willReturn(new SliceImpl<>(List.of(withdraw), PageRequest.of(0, 20), true));
+
+    // when
+    TransactionListResDto transactionListResDto = accountService.거래내역보기(accountId, userId, 0);
+    System.out.println("테스트 : " + transactionListResDto);
+
+    // then
+    assertThat(transactionListResDto.getTransactions()).hasSize(1);
+    assertThat(transactionListResDto.isHasNext()).isTrue();
+  }
+
+  @Test
+  public void 거래내역보기_소유자아님_test() throws Exception {
+    // stub: 1번 계좌의 주인은 2번 유저
+    given(accountRepository.findUserIdById(1L)).willReturn(Optional.of(2L));
+
+    // when, then
+    assertThatThrownBy(() -> accountService.거래내역보기(1L, 1L, 0))
+        .isInstanceOf(CustomApiException.class)
+        .hasMessage("계좌 소유자가 아닙니다.");
+    verify(transactionRepository, never()).findSummaryByAccountId(any(), any());
+  }
+
+  @Test
+  public void 거래내역보기_계좌없음_test() throws Exception {
+    // stub
+    given(accountRepository.findUserIdById(1L)).willReturn(Optional.empty());
+
+    // when, then
+    assertThatThrownBy(() -> accountService.거래내역보기(1L, 1L, 0))
+        .isInstanceOf(CustomApiException.class);
+  }
+}
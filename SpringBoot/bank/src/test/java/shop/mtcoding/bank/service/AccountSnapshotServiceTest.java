@@ -0,0 +1,244 @@
+package shop.mtcoding.bank.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import shop.mtcoding.bank.config.dummy.DummyObject;
+import shop.mtcoding.bank.domain.account.Account;
+import shop.mtcoding.bank.domain.account.AccountBalanceSnapshot;
+import shop.mtcoding.bank.domain.account.AccountBalanceSnapshotRepository;
+import shop.mtcoding.bank.domain.account.AccountRepository;
+import shop.mtcoding.bank.domain.transaction.TransactionRepository;
+import shop.mtcoding.bank.domain.user.User;
+import shop.mtcoding.bank.dto.account.AccountResDto.StatementResDto;
+import shop.mtcoding.bank.handler.ex.CustomApiException;
+
+@ExtendWith(MockitoExtension.class)
+public class AccountSnapshotServiceTest extends DummyObject {
+
+  @Mock
+  private AccountRepository accountRepository;
+
+  @Mock
+  private AccountBalanceSnapshotRepository snapshotRepository;
+
+  @Mock
+  private TransactionRepository transactionRepository;
+
+  @InjectMocks
+  private AccountSnapshotService accountSnapshotService;
+
+  @Test
+  public void 계좌명세서보기_이전스냅샷_test() throws Exception {
+    // given: 1/9 스냅샷 작업이 빠져서 1/8 스냅샷부터 재생
+    User ssar = newMockUser(1L, "ssar", "쌀");
+    Account ssarAccount = newAccount(1L, 5000L, LocalDateTime.of(2024, 12, 1, 9, 0), ssar);
+    LocalDate day = LocalDate.of(2025, 1, 10);
+    LocalDateTime start = day.atStartOfDay();
+    LocalDateTime end = day.plusDays(1).atStartOfDay();
+
+    // stub
+    given(accountRepository.findById(1L)).willReturn(Optional.of(ssarAccount));
+    given(snapshotRepository.findFirstByAccountIdAndSnapshotDateLessThanOrderBySnapshotDateDesc(1L, day))
+        .willReturn(Optional.of(snapshot(ssarAccount, LocalDate.of(2025, 1, 8), 1000L)));
+    given(transactionRepository.sumDepositAmount(1L, LocalDateTime.of(2025, 1, 9, 0, 0), start)).willReturn(300L);
+    given(transactionRepository.sumWithdrawAmount(1L, LocalDateTime.of(2025, 1, 9, 0, 0), start)).willReturn(100L);
+    given(transactionRepository.sumDepositAmount(1L, start, end)).willReturn(500L);
+    given(transactionRepository.sumWithdrawAmount(1L, start, end)).willReturn(200L);
+
+    // when
+    StatementResDto statementResDto = accountSnapshotService.계좌명세서보기(1L, 1L, day, day);
+    System.out.println("테스트 : " + statementResDto);
+
+    // then
+    assertThat(statementResDto.getOpeningBalance()).isEqualTo(1200L);
+    assertThat(statementResDto.getClosingBalance()).isEqualTo(1500L);
+  }
+
+  @Test
+  public void 계좌명세서보기_이전스냅샷오래됨_거절_test() throws Exception {
+    // given: 마지막 스냅샷이 30일 전 → 30일치 재생은 하지 않는다.
+    User ssar = newMockUser(1L, "ssar", "쌀");
+    Account ssarAccount = newAccount(1L, 5000L, LocalDateTime.of(2024, 12, 1, 9, 0), ssar);
+    LocalDate day = LocalDate.of(2025, 1, 31);
+
+    // stub
+    given(accountRepository.findById(1L)).willReturn(Optional.of(ssarAccount));
+    given(snapshotRepository.findFirstByAccountIdAndSnapshotDateLessThanOrderBySnapshotDateDesc(1L, day))
+        .willReturn(Optional.of(snapshot(ssarAccount, LocalDate.of(2025, 1, 1), 1000L)));
+    given(snapshotRepository.findFirstByAccountIdAndSnapshotDateGreaterThanEqualOrderBySnapshotDateAsc(1L, day))
+        .willReturn(Optional.empty());
+
+    // when, then
+    assertThatThrownBy(() -> accountSnapshotService.계좌명세서보기(1L, 1L, day, day))
+        .isInstanceOf(CustomApiException.class);
+    verify(transactionRepository, never()).sumDepositAmount(any(), any(), any());
+  }
+
+  @Test
+  public void 계좌명세서보기_이후스냅샷_되돌림_test() throws Exception {
+    // given: 1/10 이전 스냅샷은 없고 1/11 스냅샷(2000)만 있음
+    User ssar = newMockUser(1L, "ssar", "쌀");
+    Account ssarAccount = newAccount(1L, 5000L, LocalDateTime.of(2024, 12, 1, 9, 0), ssar);
+    LocalDate day = LocalDate.of(2025, 1, 10);
+    LocalDateTime start = day.atStartOfDay();
+    LocalDateTime snapshotEnd = LocalDateTime.of(2025, 1, 12, 0, 0);
+
+    // stub
+    given(accountRepository.findById(1L)).willReturn(Optional.of(ssarAccount));
+    given(snapshotRepository.findFirstByAccountIdAndSnapshotDateLessThanOrderBySnapshotDateDesc(1L, day))
+        .willReturn(Optional.empty());
+    given(snapshotRepository.findFirstByAccountIdAndSnapshotDateGreaterThanEqualOrderBySnapshotDateAsc(1L, day))
+        .willReturn(Optional.of(snapshot(ssarAccount, LocalDate.of(2025, 1, 11), 2000L)));
+    given(transactionRepository.sumDepositAmount(1L, start, snapshotEnd)).willReturn(700L);
+    given(transactionRepository.sumWithdrawAmount(1L, start, snapshotEnd)).willReturn(200L);
+    given(transactionRepository.sumDepositAmount(eq(1L), eq(start), eq(day.plusDays(1).atStartOfDay()))).willReturn(0L);
+    given(transactionRepository.sumWithdrawAmount(eq(1L), eq(start), eq(day.plusDays(1).atStartOfDay()))).willReturn(0L);
+
+    // when
+    StatementResDto statementResDto = accountSnapshotService.계좌명세서보기(1L, 1L, day, day);
+
+    // then
+    assertThat(statementResDto.getOpeningBalance()).isEqualTo(1500L);
+  }
+
+  @Test
+  public void 계좌명세서보기_스냅샷없음_최근개설_test() throws Exception {
+    // given: 어제 개설(개설 잔액 1000), 스냅샷 작업 전
+    User ssar = newMockUser(1L, "ssar", "쌀");
+    LocalDateTime createdAt = LocalDateTime.now().minusDays(1);
+    Account ssarAccount = newAccount(1L, 1000L, createdAt, ssar);
+    LocalDate today = LocalDate.now();
+
+    // stub
+    given(accountRepository.findById(1L)).willReturn(Optional.of(ssarAccount));
+    given(snapshotRepository.findFirstByAccountIdAndSnapshotDateLessThanOrderBySnapshotDateDesc(any(), any()))
+        .willReturn(Optional.empty());
+    given(snapshotRepository.findFirstByAccountIdAndSnapshotDateGreaterThanEqualOrderBySnapshotDateAsc(any(), any()))
+        .willReturn(Optional.empty());
+    given(transactionRepository.sumDepositAmount(eq(1L), eq(createdAt), any())).willReturn(500L);
+    given(transactionRepository.sumWithdrawAmount(eq(1L), eq(createdAt), any())).willReturn(0L);
+    given(transactionRepository.sumDepositAmount(eq(1L), eq(today.atStartOfDay()), any())).willReturn(0L);
+    given(transactionRepository.sumWithdrawAmount(eq(1L), eq(today.atStartOfDay()), any())).willReturn(0L);
+
+    // when
+    StatementResDto statementResDto = accountSnapshotService.계좌명세서보기(1L, 1L, today, today);
+
+    // then
+    assertThat(statementResDto.getOpeningBalance()).isEqualTo(1500L);
+  }
+
+  @Test
+  public void 계좌명세서보기_스냅샷없음_오래된시점_거절_test() throws Exception {
+    // given: 30일 전 개설, 스냅샷이 하나도 없음 → 20일치 재생은 거절
+    User ssar = newMockUser(1L, "ssar", "쌀");
+    Account ssarAccount = newAccount(1L, 1000L, LocalDateTime.now().minusDays(30), ssar);
+    LocalDate from = LocalDate.now().minusDays(20);
+
+    // stub
+    given(accountRepository.findById(1L)).willReturn(Optional.of(ssarAccount));
+    given(snapshotRepository.findFirstByAccountIdAndSnapshotDateLessThanOrderBySnapshotDateDesc(any(), any()))
+        .willReturn(Optional.empty());
+    given(snapshotRepository.findFirstByAccountIdAndSnapshotDateGreaterThanEqualOrderBySnapshotDateAsc(any(), any()))
+        .willReturn(Optional.empty());
+
+    // when, then
+    assertThatThrownBy(() -> accountSnapshotService.계좌명세서보기(1L, 1L, from, from))
+        .isInstanceOf(CustomApiException.class);
+  }
+
+  @Test
+  public void 계좌명세서보기_개설전시점_개설잔액_test() throws Exception {
+    // given
+    User ssar = newMockUser(1L, "ssar", "쌀");
+    Account ssarAccount = newAccount(1L, 1000L, LocalDateTime.of(2025, 1, 10, 9, 0), ssar);
+    LocalDate from = LocalDate.of(2025, 1, 1);
+    LocalDate to = LocalDate.of(2025, 1, 31);
+
+    // stub
+    given(accountRepository.findById(1L)).willReturn(Optional.of(ssarAccount));
+    given(transactionRepository.sumDepositAmount(eq(1L), any(), any())).willReturn(300L);
+    given(transactionRepository.sumWithdrawAmount(eq(1L), any(), any())).willReturn(0L);
+
+    // when
+    StatementResDto statementResDto = accountSnapshotService.계좌명세서보기(1L, 1L, from, to);
+
+    // then
+    assertThat(statementResDto.getOpeningBalance()).isEqualTo(1000L);
+    assertThat(statementResDto.getClosingBalance()).isEqualTo(1300L);
+  }
+
+  @Test
+  public void 계좌명세서보기_소유자아님_test() throws Exception {
+    // given
+    User ssar = newMockUser(1L, "ssar", "쌀");
+    Account ssarAccount = newAccount(1L, 1000L, LocalDateTime.of(2025, 1, 1, 9, 0), ssar);
+    LocalDate day = LocalDate.of(2025, 1, 10);
+
+    // stub
+    given(accountRepository.findById(1L)).willReturn(Optional.of(ssarAccount));
+
+    // when, then
+    assertThatThrownBy(() -> accountSnapshotService.계좌명세서보기(1L, 2L, day, day))
+        .isInstanceOf(CustomApiException.class);
+  }
+
+  @Test
+  public void 일말스냅샷생성_이후개설계좌_제외_test() throws Exception {
+    // given: 1/10 스냅샷, 2번 계좌는 1/15 개설
+    User ssar = newMockUser(1L, "ssar", "쌀");
+    Account oldAccount = newAccount(1L, 1000L, LocalDateTime.of(2025, 1, 1, 9, 0), ssar);
+    Account newAccount = newAccount(2L, 1000L, LocalDateTime.of(2025, 1, 15, 9, 0), ssar);
+    LocalDate date = LocalDate.of(2025, 1, 10);
+
+    // stub: 거래/기존 스냅샷 없음 (List 반환은 기본값이 빈 리스트)
+    given(accountRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any()))
+        .willReturn(new SliceImpl<>(List.of(oldAccount, newAccount), PageRequest.of(0, 1000), false));
+
+    // when
+    Long lastId = accountSnapshotService.일말스냅샷생성(date, 0L);
+
+    // then: 1번 계좌만 (중복 무시 insert)
+    verify(snapshotRepository).insertIfAbsent(eq(1L), eq(date), eq(1000L), any());
+    verify(snapshotRepository, never()).insertIfAbsent(eq(2L), any(), any(), any());
+    assertThat(lastId).isNull();
+  }
+
+  private Account newAccount(Long id, Long balance, LocalDateTime createdAt, User user) {
+    return Account.builder()
+        .id(id)
+        .number(1110L + id)
+        .password(1234L)
+        .balance(balance)
+        .user(user)
+        .createdAt(createdAt)
+        .updatedAt(createdAt)
+        .build();
+  }
+
+  private AccountBalanceSnapshot snapshot(Account account, LocalDate date, Long balance) {
+    return AccountBalanceSnapshot.builder()
+        .account(account)
+        .snapshotDate(date)
+        .balance(balance)
+        .build();
+  }
+}
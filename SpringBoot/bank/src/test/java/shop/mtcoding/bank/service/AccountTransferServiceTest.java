@@ -0,0 +1,492 @@
+package shop.mtcoding.bank.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
+
+import shop.mtcoding.bank.config.dummy.DummyObject;
+import shop.mtcoding.bank.config.shard.ShardContext;
+import shop.mtcoding.bank.domain.account.Account;
+import shop.mtcoding.bank.domain.account.AccountDirectory;
+import shop.mtcoding.bank.domain.account.AccountRepository;
+import shop.mtcoding.bank.domain.transaction.Transaction;
+import shop.mtcoding.bank.domain.transaction.TransactionRepository;
+import shop.mtcoding.bank.domain.transfer.TransferSaga;
+import shop.mtcoding.bank.domain.transfer.TransferSagaEnum;
+import shop.mtcoding.bank.domain.transfer.TransferSagaRepository;
+import shop.mtcoding.bank.domain.user.User;
+import shop.mtcoding.bank.dto.account.AccountReqDto.BulkTransferReqDto;
+import shop.mtcoding.bank.dto.account.AccountReqDto.BulkTransferReqDto.BulkTransferItemDto;
+import shop.mtcoding.bank.dto.account.AccountReqDto.TransferReqDto;
+import shop.mtcoding.bank.dto.account.AccountResDto.BulkTransferResDto;
+import shop.mtcoding.bank.dto.account.AccountResDto.TransferResDto;
+import shop.mtcoding.bank.handler.event.BalanceChangedEvent;
+import shop.mtcoding.bank.handler.ex.CustomApiException;
+
+@ExtendWith(MockitoExtension.class)
+public class AccountTransferServiceTest extends DummyObject {
+
+  @Mock
+  private AccountRepository accountRepository;
+
+  @Mock
+  private TransactionRepository transactionRepository;
+
+  @Mock
+  private TransferSagaRepository transferSagaRepository;
+
+  @Mock
+  private AccountDirectory accountDirectory;
+
+  @Mock
+  private WithdrawVelocityLimiter withdrawVelocityLimiter;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  private AccountTransferService accountTransferService;
+
+  @BeforeEach
+  public void setUp() {
+    // 샤드 2개: id 홀수 → 0번, 짝수 → 1번
+    accountTransferService = new AccountTransferService(accountRepository, transactionRepository,
+        transferSagaRepository, accountDirectory, withdrawVelocityLimiter, eventPublisher, transactionManager,
+        jdbcTemplate, 2, 5);
+  }
+
+  @Test
+  public void 계좌이체_같은샤드_test() throws Exception {
+    // given
+    User ssar = newMockUser(1L, "ssar", "쌀");
+    User cos = newMockUser(3L, "cos", "코스");
+    Account ssarAccount = newMockAccount(1L, 1111L, 1000L, ssar);
+    Account cosAccount = newMockAccount(3L, 2222L, 1000L, cos);
+    TransferReqDto transferReqDto = newTransferReqDto(1111L, 2222L, 100L);
+
+    // stub
+    given(accountDirectory.findAccountId(1111L)).willReturn(1L);
+    given(accountDirectory.findAccountId(2222L)).willReturn(3L);
+    given(accountRepository.findByIdForUpdate(1L)).willReturn(Optional.of(ssarAccount));
+    given(accountRepository.findByIdForUpdate(3L)).willReturn(Optional.of(cosAccount));
+    given(transactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+    // when
+    TransferResDto transferResDto = accountTransferService.계좌이체(transferReqDto, 1L);
+    System.out.println("테스트 : " + transferResDto);
+
+    // then
+    assertThat(transferResDto.getBalance()).isEqualTo(900L);
+    assertThat(cosAccount.getBalance()).isEqualTo(1100L);
+  }
+
+  @Test
+  public void 계좌이체_샤드간_입금실패_보상_test() throws Exception {
+    // given
+    User ssar = newMockUser(1L, "ssar", "쌀");
+    Account ssarAccount = newMockAccount(1L, 1111L, 1000L, ssar);
+    TransferReqDto transferReqDto = newTransferReqDto(1111L, 2222L, 100L);
+    Map<Integer, Map<String, TransferSaga>> sagaStore = stubSagaStore();
+
+    // stub: 입금 계좌(1번 샤드)가 그 사이 삭제됨
+    given(accountDirectory.findAccountId(1111L)).willReturn(1L);
+    given(accountDirectory.findAccountId(2222L)).willReturn(2L);
+    given(accountRepository.findByIdForUpdate(1L)).willReturn(Optional.of(ssarAccount));
+    given(accountRepository.findByIdForUpdate(2L)).willReturn(Optional.empty());
+    given(transactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+    // when
+    assertThatThrownBy(() -> accountTransferService.계좌이체(transferReqDto, 1L))
+        .isInstanceOf(CustomApiException.class);
+    System.out.println("테스트 : " + ssarAccount.getBalance() + ", " + sagaStore);
+
+    // then: 입금 샤드를 막은 뒤 출금 취소, 잔액 원복, 출금 한도도 원복
+    assertThat(ssarAccount.getBalance()).isEqualTo(1000L);
+    verify(withdrawVelocityLimiter, times(1)).release(eq(1L), eq(100L), any());
+    assertThat(onlySaga(sagaStore, 0).getStatus()).isEqualTo(TransferSagaEnum.COMPENSATED);
+    assertThat(onlySaga(sagaStore, 1).getStatus()).isEqualTo(TransferSagaEnum.ABORTED);
+  }
+
+  @Test
+  public void 계좌이체_샤드간_입금커밋후예외_환불안함_test() throws Exception {
+    // given
+    User ssar = newMockUser(1L, "ssar", "쌀");
+    User cos = newMockUser(2L, "cos", "코스");
+    Account ssarAccount = newMockAccount(1L, 1111L, 1000L, ssar);
+    Account cosAccount = newMockAccount(2L, 2222L, 1000L, cos);
+    TransferReqDto transferReqDto = newTransferReqDto(1111L, 2222L, 100L);
+    Map<Integer, Map<String, TransferSaga>> sagaStore = stubSagaStore();
+
+    // stub: 입금 트랜잭션은 커밋됐지만 커밋 응답이 예외로 돌아옴 (출금 커밋 → 입금 커밋 실패 → 이후 정상)
+    given(accountDirectory.findAccountId(1111L)).willReturn(1L);
+    given(accountDirectory.findAccountId(2222L)).willReturn(2L);
+    given(accountRepository.findByIdForUpdate(1L)).willReturn(Optional.of(ssarAccount));
+    given(accountRepository.findByIdForUpdate(2L)).willReturn(Optional.of(cosAccount));
+    given(transactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
+    willDoNothing().willThrow(new TransactionSystemException("커밋 응답 없음")).willDoNothing()
+        .given(transactionManager).commit(any());
+
+    // when
+    TransferResDto transferResDto = accountTransferService.계좌이체(transferReqDto, 1L);
+    System.out.println("테스트 : " + transferResDto + ", " + sagaStore);
+
+    // then: 입금 샤드에 DEPOSITED가 있으므로 환불하지 않고 완료
+    assertThat(ssarAccount.getBalance()).isEqualTo(900L);
+    assertThat(cosAccount.getBalance()).isEqualTo(1100L);
+    assertThat(onlySaga(sagaStore, 0).getStatus()).isEqualTo(TransferSagaEnum.COMPLETED);
+    assertThat(onlySaga(sagaStore, 1).getStatus()).isEqualTo(TransferSagaEnum.DEPOSITED);
+  }
+
+  @Test
+  public void 미완료이체복구_입금차단후_보상_test() throws Exception {
+    // given: 출금만 커밋되고 멈춘 saga (입금 샤드엔 기록 없음)
+    User ssar = newMockUser(1L, "ssar", "쌀");
+    Account ssarAccount = newMockAccount(1L, 1111L, 900L, ssar);
+    Map<Integer, Map<String, TransferSaga>> sagaStore = stubSagaStore();
+    TransferSaga withdrawn = TransferSaga.builder()
+        .sagaId("saga-1")
+        .withdrawAccountId(1L)
+        .withdrawNumber(1111L)
+        .depositAccountId(2L)
+        .depositNumber(2222L)
+        .amount(100L)
+        .status(TransferSagaEnum.WITHDRAWN)
+        .build();
+    sagaStore.get(0).put("saga-1", withdrawn);
+
+    // stub
+    given(transferSagaRepository.findByStatusAndCreatedAtBefore(any(), any()))
+        .willAnswer(invocation -> sagaStore.get(ShardContext.current()).values().stream()
+            .filter(saga -> saga.getStatus() == invocation.getArgument(0))
+            .collect(Collectors.toList()));
+    given(accountRepository.findByIdForUpdate(1L)).willReturn(Optional.of(ssarAccount));
+    given(transactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+    // when
+    int recovered = accountTransferService.미완료이체복구();
+    System.out.println("테스트 : " + recovered + ", " + sagaStore);
+
+    // then: ABORTED를 먼저 남겨서 늦게 오는 입금은 막히고, 출금은 환불
+    assertThat(recovered).isEqualTo(1);
+    assertThat(ssarAccount.getBalance()).isEqualTo(1000L);
+    assertThat(withdrawn.getStatus()).isEqualTo(TransferSagaEnum.COMPENSATED);
+    assertThat(onlySaga(sagaStore, 1).getStatus()).isEqualTo(TransferSagaEnum.ABORTED);
+  }
+
+  @Test
+  public void 일괄이체_test() throws Exception {
+    // given
+    User ssar = newMockUser(1L, "ssar", "쌀");
+    User cos = newMockUser(3L, "cos", "코스");
+    Account ssarAccount = newMockAccount(1L, 1111L, 1000L, ssar);
+    Account cosAccount = newMockAccount(3L, 2222L, 1000L, cos);
+    Account loveAccount = newMockAccount(5L, 3333L, 1000L, cos);
+    BulkTransferReqDto bulkTransferReqDto = newBulkTransferReqDto(1111L,
+        new long[][] { { 2222L, 100L }, { 9999L, 100L }, { 3333L, 200L }, { 1111L, 100L }, { 2222L, 300L } });
+
+    // stub: 9999는 없는 계좌
+    given(accountDirectory.findAccountId(1111L)).willReturn(1L);
+    given(accountDirectory.findAccountId(2222L)).willReturn(3L);
+    given(accountDirectory.findAccountId(3333L)).willReturn(5L);
+    given(accountDirectory.findAccountId(9999L)).willReturn(AccountDirectory.NOT_FOUND);
+    given(accountRepository.findAllByIdInForUpdate(List.of(1L, 3L, 5L)))
+        .willReturn(List.of(ssarAccount, cosAccount, loveAccount));
+    List<Integer> batchSizes = stubBatchInsert();
+
+    // when
+    BulkTransferResDto bulkTransferResDto = accountTransferService.일괄이체(bulkTransferReqDto, 1L);
+    System.out.println("테스트 : " + bulkTransferResDto);
+
+    // then: 락 1번, 출금 1번, 거래내역은 batch 하나
+    verify(accountRepository, times(1)).findAllByIdInForUpdate(anyList());
+    verify(withdrawVelocityLimiter, times(1)).acquire(1L, 600L);
+    assertThat(batchSizes).containsExactly(3);
+
+    // then: 잔액 변경 알림은 거래마다 출금/입금 하나씩, 그 거래 직후 잔액 (건별 출금계좌 잔액 누적)
+    List<BalanceChangedEvent> events = publishedEvents(6);
+    assertThat(events).extracting(BalanceChangedEvent::getTransactionId).containsExactly(1L, 1L, 2L, 2L, 3L, 3L);
+    assertThat(events).extracting(BalanceChangedEvent::getAccountId).containsExactly(1L, 3L, 1L, 5L, 1L, 3L);
+    assertThat(events).extracting(BalanceChangedEvent::getBalance)
+        .containsExactly(900L, 1100L, 700L, 1200L, 400L, 1400L);
+    assertThat(events).extracting(BalanceChangedEvent::getAmount).containsExactly(100L, 100L, 200L, 200L, 300L, 300L);
+
+    assertThat(bulkTransferResDto.getBalance()).isEqualTo(400L);
+    assertThat(bulkTransferResDto.getTotalAmount()).isEqualTo(600L);
+    assertThat(bulkTransferResDto.getSuccessCount()).isEqualTo(3);
+    assertThat(bulkTransferResDto.getFailCount()).isEqualTo(2);
+    assertThat(bulkTransferResDto.getItems().get(1).getMsg()).isEqualTo("계좌를 찾을 수 없습니다.");
+    assertThat(bulkTransferResDto.getItems().get(3).getMsg()).isEqualTo("입출금계좌가 동일할 수 없습니다.");
+    assertThat(cosAccount.getBalance()).isEqualTo(1400L);
+    assertThat(loveAccount.getBalance()).isEqualTo(1200L);
+  }
+
+  @Test
+  public void 일괄이체_샤드간_test() throws Exception {
+    // given: 출금 0번 샤드, 입금은 0번(cos)과 1번(love, kim) 샤드
+    User ssar = newMockUser(1L, "ssar", "쌀");
+    User cos = newMockUser(3L, "cos", "코스");
+    Account ssarAccount = newMockAccount(1L, 1111L, 1000L, ssar);
+    Account cosAccount = newMockAccount(3L, 2222L, 1000L, cos);
+    Account loveAccount = newMockAccount(2L, 3333L, 1000L, cos);
+    Account kimAccount = newMockAccount(4L, 4444L, 1000L, cos);
+    BulkTransferReqDto bulkTransferReqDto = newBulkTransferReqDto(1111L,
+        new long[][] { { 3333L, 100L }, { 2222L, 200L }, { 4444L, 300L }, { 3333L, 50L } });
+    Map<Integer, Map<String, TransferSaga>> sagaStore = stubSagaStore();
+
+    // stub
+    stubBulkShardAccounts(ssarAccount, cosAccount, loveAccount, kimAccount);
+    given(accountRepository.findAllByIdInForUpdate(List.of(2L, 4L))).willReturn(List.of(loveAccount, kimAccount));
+    List<Integer> batchSizes = stubBatchInsert();
+
+    // when
+    BulkTransferResDto bulkTransferResDto = accountTransferService.일괄이체(bulkTransferReqDto, 1L);
+    System.out.println("테스트 : " + bulkTransferResDto + ", " + sagaStore);
+
+    // then: 출금계좌 락/출금/한도는 전체 합계로 한 번, 1번 샤드는 saga 하나로 입금
+    verify(withdrawVelocityLimiter, times(1)).acquire(1L, 650L);
+    verify(accountRepository, never()).findByIdForUpdate(any());
+    assertThat(batchSizes).containsExactly(4, 3); // 출금 샤드 1번, 입금 샤드 1번
+    assertThat(bulkTransferResDto.getSuccessCount()).isEqualTo(4);
+    assertThat(bulkTransferResDto.getBalance()).isEqualTo(350L);
+    assertThat(cosAccount.getBalance()).isEqualTo(1200L);
+    assertThat(loveAccount.getBalance()).isEqualTo(1150L);
+    assertThat(kimAccount.getBalance()).isEqualTo(1300L);
+    assertThat(onlySaga(sagaStore, 0).getStatus()).isEqualTo(TransferSagaEnum.COMPLETED);
+    assertThat(onlySaga(sagaStore, 0).getAmount()).isEqualTo(450L);
+    assertThat(onlySaga(sagaStore, 1).getStatus()).isEqualTo(TransferSagaEnum.DEPOSITED);
+
+    // then: 출금 샤드 거래 4건(같은 샤드 cos 입금 포함) + 입금 샤드 거래 3건, 거래마다 알림
+    List<BalanceChangedEvent> events = publishedEvents(8);
+    assertThat(events).extracting(BalanceChangedEvent::getTransactionId)
+        .containsExactly(1L, 2L, 2L, 3L, 4L, 5L, 6L, 7L);
+    assertThat(events).extracting(BalanceChangedEvent::getAccountId).containsExactly(1L, 1L, 3L, 1L, 1L, 2L, 4L, 2L);
+    assertThat(events).extracting(BalanceChangedEvent::getBalance)
+        .containsExactly(900L, 700L, 1200L, 400L, 350L, 1100L, 1300L, 1150L);
+  }
+
+  @Test
+  public void 일괄이체_입금샤드실패_그샤드만환불_test() throws Exception {
+    // given
+    User ssar = newMockUser(1L, "ssar", "쌀");
+    User cos = newMockUser(3L, "cos", "코스");
+    Account ssarAccount = newMockAccount(1L, 1111L, 1000L, ssar);
+    Account cosAccount = newMockAccount(3L, 2222L, 1000L, cos);
+    Account loveAccount = newMockAccount(2L, 3333L, 1000L, cos);
+    Account kimAccount = newMockAccount(4L, 4444L, 1000L, cos);
+    BulkTransferReqDto bulkTransferReqDto = newBulkTransferReqDto(1111L,
+        new long[][] { { 3333L, 100L }, { 2222L, 200L }, { 4444L, 300L }, { 3333L, 50L } });
+    Map<Integer, Map<String, TransferSaga>> sagaStore = stubSagaStore();
+
+    // stub: 확인 후 입금 전에 love 계좌가 삭제됨
+    stubBulkShardAccounts(ssarAccount, cosAccount, loveAccount, kimAccount);
+    given(accountRepository.findAllByIdInForUpdate(List.of(2L, 4L))).willReturn(List.of(kimAccount));
+    given(accountRepository.findByIdForUpdate(1L)).willReturn(Optional.of(ssarAccount)); // 환불
+    given(transactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
+    stubBatchInsert();
+
+    // when
+    BulkTransferResDto bulkTransferResDto = accountTransferService.일괄이체(bulkTransferReqDto, 1L);
+    System.out.println("테스트 : " + bulkTransferResDto + ", " + sagaStore);
+
+    // then: 같은 샤드(cos)만 성공, 1번 샤드 몫(450)은 입금 차단 후 환불
+    assertThat(bulkTransferResDto.getSuccessCount()).isEqualTo(1);
+    assertThat(bulkTransferResDto.getFailCount()).isEqualTo(3);
+    assertThat(bulkTransferResDto.getBalance()).isEqualTo(800L);
+    assertThat(ssarAccount.getBalance()).isEqualTo(800L);
+    verify(withdrawVelocityLimiter, times(1)).release(eq(1L), eq(450L), any());
+    assertThat(cosAccount.getBalance()).isEqualTo(1200L);
+    assertThat(onlySaga(sagaStore, 0).getStatus()).isEqualTo(TransferSagaEnum.COMPENSATED);
+    assertThat(onlySaga(sagaStore, 1).getStatus()).isEqualTo(TransferSagaEnum.ABORTED);
+  }
+
+  @Test
+  public void 일괄이체_잔액부족_전체거절_test() throws Exception {
+    // given
+    User ssar = newMockUser(1L, "ssar", "쌀");
+    User cos = newMockUser(3L, "cos", "코스");
+    Account ssarAccount = newMockAccount(1L, 1111L, 1000L, ssar);
+    Account cosAccount = newMockAccount(3L, 2222L, 1000L, cos);
+    BulkTransferReqDto bulkTransferReqDto = newBulkTransferReqDto(1111L,
+        new long[][] { { 2222L, 600L }, { 2222L, 600L } });
+
+    // stub
+    given(accountDirectory.findAccountId(1111L)).willReturn(1L);
+    given(accountDirectory.findAccountId(2222L)).willReturn(3L);
+    given(accountRepository.findAllByIdInForUpdate(List.of(1L, 3L))).willReturn(List.of(ssarAccount, cosAccount));
+
+    // when
+    assertThatThrownBy(() -> accountTransferService.일괄이체(bulkTransferReqDto, 1L))
+        .isInstanceOf(CustomApiException.class)
+        .hasMessage("계좌 잔액이 부족합니다.");
+
+    // then
+    verifyNoInteractions(jdbcTemplate);
+    assertThat(cosAccount.getBalance()).isEqualTo(1000L);
+  }
+
+  @Test
+  public void 일괄이체_합계overflow_전체거절_test() throws Exception {
+    // given: 합계가 long 범위를 넘으면 음수가 됨
+    User ssar = newMockUser(1L, "ssar", "쌀");
+    User cos = newMockUser(3L, "cos", "코스");
+    Account ssarAccount = newMockAccount(1L, 1111L, 1000L, ssar);
+    Account cosAccount = newMockAccount(3L, 2222L, 1000L, cos);
+    BulkTransferReqDto bulkTransferReqDto = newBulkTransferReqDto(1111L,
+        new long[][] { { 2222L, Long.MAX_VALUE }, { 2222L, Long.MAX_VALUE } });
+
+    // stub
+    given(accountDirectory.findAccountId(1111L)).willReturn(1L);
+    given(accountDirectory.findAccountId(2222L)).willReturn(3L);
+    given(accountRepository.findAllByIdInForUpdate(List.of(1L, 3L))).willReturn(List.of(ssarAccount, cosAccount));
+
+    // when
+    assertThatThrownBy(() -> accountTransferService.일괄이체(bulkTransferReqDto, 1L))
+        .isInstanceOf(CustomApiException.class)
+        .hasMessage("이체 금액 합계가 너무 큽니다.");
+    System.out.println("테스트 : " + ssarAccount.getBalance() + ", " + cosAccount.getBalance());
+
+    // then: 한도 기록/출금/입금 모두 없음
+    verifyNoInteractions(withdrawVelocityLimiter);
+    verifyNoInteractions(jdbcTemplate);
+    assertThat(ssarAccount.getBalance()).isEqualTo(1000L);
+    assertThat(cosAccount.getBalance()).isEqualTo(1000L);
+  }
+
+  // 출금 1번(0번 샤드), 입금 3번(0번 샤드), 2번/4번(1번 샤드)
+  private void stubBulkShardAccounts(Account ssarAccount, Account cosAccount, Account loveAccount,
+      Account kimAccount) {
+    given(accountDirectory.findAccountId(1111L)).willReturn(1L);
+    given(accountDirectory.findAccountId(2222L)).willReturn(3L);
+    given(accountDirectory.findAccountId(3333L)).willReturn(2L);
+    given(accountDirectory.findAccountId(4444L)).willReturn(4L);
+    given(accountRepository.findAllById(List.of(2L, 4L, 2L))).willReturn(List.of(loveAccount, kimAccount));
+    given(accountRepository.findAllByIdInForUpdate(List.of(1L, 3L))).willReturn(List.of(ssarAccount, cosAccount));
+  }
+
+  // 거래내역 batch insert: 넣은 행마다 거래 id를 1부터 차례로 발급 → 반환: batch별 행 수
+  private List<Integer> stubBatchInsert() {
+    List<Integer> batchSizes = new ArrayList<>();
+    AtomicLong nextId = new AtomicLong(1);
+    given(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+        any(KeyHolder.class))).willAnswer(invocation -> {
+          BatchPreparedStatementSetter setter = invocation.getArgument(1);
+          KeyHolder keyHolder = invocation.getArgument(2);
+          for (int i = 0; i < setter.getBatchSize(); i++) {
+            keyHolder.getKeyList().add(Map.of("ID", nextId.getAndIncrement()));
+          }
+          batchSizes.add(setter.getBatchSize());
+          return new int[setter.getBatchSize()];
+        });
+    return batchSizes;
+  }
+
+  private List<BalanceChangedEvent> publishedEvents(int count) {
+    ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+    verify(eventPublisher, times(count)).publishEvent(events.capture());
+    return events.getAllValues().stream().map(event -> (BalanceChangedEvent) event).collect(Collectors.toList());
+  }
+
+  private BulkTransferReqDto newBulkTransferReqDto(Long withdrawNumber, long[][] items) {
+    List<BulkTransferItemDto> itemList = new ArrayList<>();
+    for (long[] item : items) {
+      BulkTransferItemDto itemDto = new BulkTransferItemDto();
+      itemDto.setDepositNumber(item[0]);
+      itemDto.setAmount(item[1]);
+      itemList.add(itemDto);
+    }
+    BulkTransferReqDto bulkTransferReqDto = new BulkTransferReqDto();
+    bulkTransferReqDto.setWithdrawNumber(withdrawNumber);
+    bulkTransferReqDto.setWithdrawPassword(1234L);
+    bulkTransferReqDto.setItems(itemList);
+    bulkTransferReqDto.setGubun("TRANSFER");
+    return bulkTransferReqDto;
+  }
+
+  // 샤드별 transfer_saga_tb (sagaId unique): 같은 sagaId를 다시 넣으면 DataIntegrityViolationException
+  // 트랜잭션이 롤백되면 그 트랜잭션에서 넣은 기록도 지운다.
+  private Map<Integer, Map<String, TransferSaga>> stubSagaStore() {
+    Map<Integer, Map<String, TransferSaga>> sagaStore = new HashMap<>();
+    sagaStore.put(0, new HashMap<>());
+    sagaStore.put(1, new HashMap<>());
+    List<Runnable> undo = new ArrayList<>();
+    Answer<TransferSaga> insert = invocation -> {
+      TransferSaga saga = invocation.getArgument(0);
+      Map<String, TransferSaga> shardStore = sagaStore.get(ShardContext.current());
+      if (shardStore.putIfAbsent(saga.getSagaId(), saga) != null) {
+        throw new DataIntegrityViolationException("duplicate sagaId");
+      }
+      undo.add(() -> shardStore.remove(saga.getSagaId()));
+      return saga;
+    };
+    lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+      undo.clear();
+      return null;
+    });
+    lenient().doAnswer(invocation -> {
+      undo.forEach(Runnable::run);
+      undo.clear();
+      return null;
+    }).when(transactionManager).rollback(any());
+    Answer<Optional<TransferSaga>> find = invocation -> Optional
+        .ofNullable(sagaStore.get(ShardContext.current()).get(invocation.<String>getArgument(0)));
+
+    lenient().when(transferSagaRepository.save(any(TransferSaga.class))).thenAnswer(insert);
+    lenient().when(transferSagaRepository.saveAndFlush(any(TransferSaga.class))).thenAnswer(insert);
+    lenient().when(transferSagaRepository.findBySagaId(any())).thenAnswer(find);
+    lenient().when(transferSagaRepository.findBySagaIdForUpdate(any())).thenAnswer(find);
+    return sagaStore;
+  }
+
+  private TransferSaga onlySaga(Map<Integer, Map<String, TransferSaga>> sagaStore, int shard) {
+    assertThat(sagaStore.get(shard)).hasSize(1);
+    return sagaStore.get(shard).values().iterator().next();
+  }
+
+  private TransferReqDto newTransferReqDto(Long withdrawNumber, Long depositNumber, Long amount) {
+    TransferReqDto transferReqDto = new TransferReqDto();
+    transferReqDto.setWithdrawNumber(withdrawNumber);
+    transferReqDto.setDepositNumber(depositNumber);
+    transferReqDto.setWithdrawPassword(1234L);
+    transferReqDto.setAmount(amount);
+    transferReqDto.setGubun("TRANSFER");
+    return transferReqDto;
+  }
+}
@@ -0,0 +1,114 @@
+package shop.mtcoding.bank.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.NaturalIdStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import shop.mtcoding.bank.config.dummy.DummyObject;
+import shop.mtcoding.bank.domain.user.User;
+import shop.mtcoding.bank.domain.user.UserRepository;
+import shop.mtcoding.bank.dto.user.UserResDto.UserInfoResDto;
+
+// 로그인 유저 조회가 natural id 2차 캐시를 타는지 (hibernate.generate_statistics: true 필요)
+@SpringBootTest
+public class UserServiceCacheTest extends DummyObject {
+
+  @Autowired
+  private UserService userService;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private EntityManagerFactory emf;
+  @Autowired
+  private EntityManager em;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private SessionFactory sessionFactory;
+  private Statistics statistics;
+  private User cos;
+
+  @BeforeEach
+  public void setup() {
+    sessionFactory = emf.unwrap(SessionFactory.class);
+    statistics = sessionFactory.getStatistics();
+    cos = userRepository.findByUsername("cachecos")
+        .orElseGet(() -> userRepository.save(newUser("cachecos", "코스")));
+
+    sessionFactory.getCache().evictAllRegions();
+    statistics.clear();
+  }
+
+  @Test
+  public void 회원정보보기_natural_id_캐시_hit_miss_test() throws Exception {
+    // given
+    NaturalIdStatistics naturalIdStatistics = statistics.getNaturalIdStatistics(User.class.getName());
+
+    // when
+    userService.회원정보보기("cachecos"); // miss → DB 조회 후 캐시에 적재
+    long statementsAfterFirst = statistics.getPrepareStatementCount();
+    UserInfoResDto userInfoResDto = userService.회원정보보기("cachecos"); // hit
+    long statementsAfterSecond = statistics.getPrepareStatementCount();
+    System.out.println("테스트 : natural id hit " + naturalIdStatistics.getCacheHitCount()
+        + ", miss " + naturalIdStatistics.getCacheMissCount());
+
+    // then
+    assertThat(userInfoResDto.getId()).isEqualTo(cos.getId());
+    assertThat(naturalIdStatistics.getCacheMissCount()).isEqualTo(1L);
+    assertThat(naturalIdStatistics.getCacheHitCount()).isEqualTo(1L);
+    assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(1L);
+    assertThat(statementsAfterSecond).isEqualTo(statementsAfterFirst); // 두 번째는 쿼리 없음
+  }
+
+  @Test
+  public void 엔티티수정_캐시갱신_test() throws Exception {
+    // given
+    userService.회원정보보기("cachecos"); // 캐시 적재
+    User changed = User.builder()
+        .id(cos.getId())
+        .username(cos.getUsername())
+        .password(cos.getPassword())
+        .email(cos.getEmail())
+        .fullname("코스수정")
+        .role(cos.getRole())
+        .createdAt(cos.getCreatedAt())
+        .updatedAt(cos.getUpdatedAt())
+        .build();
+
+    // when: dirty checking update → READ_WRITE 캐시도 같은 값으로 갱신
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> em.merge(changed));
+    UserInfoResDto userInfoResDto = userService.회원정보보기("cachecos");
+
+    // then
+    assertThat(userInfoResDto.getFullname()).isEqualTo("코스수정");
+  }
+
+  @Test
+  public void 벌크수정_캐시무효화_test() throws Exception {
+    // given
+    userService.회원정보보기("cachecos"); // 캐시 적재
+
+    // when: JPQL update는 캐시를 거치지 않으므로 hibernate가 User region을 비운다.
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> em
+        .createQuery("update User u set u.fullname = :fullname where u.id = :id")
+        .setParameter("fullname", "코스벌크")
+        .setParameter("id", cos.getId())
+        .executeUpdate());
+    long missBefore = statistics.getSecondLevelCacheMissCount();
+    UserInfoResDto userInfoResDto = userService.회원정보보기("cachecos");
+
+    // then
+    assertThat(userInfoResDto.getFullname()).isEqualTo("코스벌크");
+    assertThat(statistics.getSecondLevelCacheMissCount()).isGreaterThan(missBefore);
+  }
+}
@@ -0,0 +1,137 @@
+package shop.mtcoding.bank.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import shop.mtcoding.bank.domain.transaction.TransactionRepository;
+import shop.mtcoding.bank.domain.transaction.WithdrawHistory;
+import shop.mtcoding.bank.domain.transfer.TransferSagaEnum;
+import shop.mtcoding.bank.domain.transfer.TransferSagaRepository;
+import shop.mtcoding.bank.handler.ex.CustomApiException;
+
+@ExtendWith(MockitoExtension.class)
+public class WithdrawVelocityLimiterTest {
+
+  @Mock
+  private TransactionRepository transactionRepository;
+
+  @Mock
+  private TransferSagaRepository transferSagaRepository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private WithdrawVelocityLimiter withdrawVelocityLimiter;
+
+  @BeforeEach
+  public void setUp() {
+    withdrawVelocityLimiter = new WithdrawVelocityLimiter(transactionRepository, transferSagaRepository,
+        transactionManager, 1000L, 5000L, 1);
+  }
+
+  @Test
+  public void 재구성전_출금대기_test() throws Exception {
+    // given: 30분 전에 900원 출금 (1시간 한도 1000원)
+    WithdrawHistory history = history(1L, 900L, LocalDateTime.now().minusMinutes(30));
+
+    // stub
+    given(transactionRepository.streamWithdrawHistorySince(any())).willReturn(Stream.of(history));
+
+    // when: 재구성 전에 들어온 출금은 기다렸다가 재구성된 카운터로 검사
+    CompletableFuture<Void> withdraw = CompletableFuture.runAsync(() -> withdrawVelocityLimiter.acquire(1L, 200L));
+    Thread.sleep(200);
+    boolean doneBeforeRebuild = withdraw.isDone();
+    withdrawVelocityLimiter.rebuild();
+
+    // then
+    assertThat(doneBeforeRebuild).isFalse();
+    assertThatThrownBy(() -> withdraw.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(CustomApiException.class);
+  }
+
+  @Test
+  public void 빈카운터_정리_test() throws Exception {
+    // stub
+    given(transactionRepository.streamWithdrawHistorySince(any())).willReturn(Stream.empty());
+    withdrawVelocityLimiter.rebuild();
+
+    // given
+    withdrawVelocityLimiter.acquire(1L, 100L);
+    withdrawVelocityLimiter.acquire(2L, 100L);
+    long now = System.currentTimeMillis();
+
+    // when
+    int evictedNow = withdrawVelocityLimiter.evictIdle(now);
+    int evictedNextDay = withdrawVelocityLimiter.evictIdle(now + 25 * 60 * 60 * 1000L);
+    System.out.println("테스트 : 정리 " + evictedNow + " / " + evictedNextDay);
+
+    // then
+    assertThat(evictedNow).isEqualTo(0);
+    assertThat(evictedNextDay).isEqualTo(2);
+    assertThat(withdrawVelocityLimiter.getCounterCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void 환불_한도복구_test() throws Exception {
+    // stub
+    given(transactionRepository.streamWithdrawHistorySince(any())).willReturn(Stream.empty());
+    withdrawVelocityLimiter.rebuild();
+
+    // given: 900원 출금 후 샤드 간 이체 실패로 환불 (1시간 한도 1000원)
+    LocalDateTime withdrawnAt = LocalDateTime.now();
+    withdrawVelocityLimiter.acquire(1L, 900L);
+
+    // when
+    withdrawVelocityLimiter.release(1L, 900L, withdrawnAt);
+
+    // then: 환불된 금액은 한도에서 빠져서 다시 출금 가능
+    withdrawVelocityLimiter.acquire(1L, 900L);
+    assertThatThrownBy(() -> withdrawVelocityLimiter.acquire(1L, 200L))
+        .isInstanceOf(CustomApiException.class)
+        .hasMessage("1시간 출금 한도를 초과했습니다.");
+  }
+
+  @Test
+  public void 재구성_환불제외_test() throws Exception {
+    // given: 30분 전 출금 900원 중 환불된 saga 900원
+    LocalDateTime withdrawnAt = LocalDateTime.now().minusMinutes(30);
+    WithdrawHistory history = history(1L, 900L, withdrawnAt);
+    WithdrawHistory refund = history(1L, 900L, withdrawnAt);
+
+    // stub
+    given(transactionRepository.streamWithdrawHistorySince(any())).willReturn(Stream.of(history));
+    given(transferSagaRepository.findWithdrawHistoryByStatusSince(eq(TransferSagaEnum.COMPENSATED), any()))
+        .willReturn(List.of(refund));
+
+    // when
+    withdrawVelocityLimiter.rebuild();
+
+    // then
+    withdrawVelocityLimiter.acquire(1L, 900L);
+  }
+
+  private WithdrawHistory history(Long accountId, Long amount, LocalDateTime createdAt) {
+    WithdrawHistory history = mock(WithdrawHistory.class);
+    given(history.getAccountId()).willReturn(accountId);
+    given(history.getAmount()).willReturn(amount);
+    given(history.getCreatedAt()).willReturn(createdAt);
+    return history;
+  }
+}
@@ -0,0 +1,66 @@
+package shop.mtcoding.bank.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+  @Test
+  public void limit초과_거절_test() throws Exception {
+    // given
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10);
+
+    // when
+    boolean first = limiter.tryAcquire();
+    boolean second = limiter.tryAcquire();
+    boolean third = limiter.tryAcquire();
+
+    // then
+    assertThat(first).isTrue();
+    assertThat(second).isTrue();
+    assertThat(third).isFalse();
+    assertThat(limiter.getInFlight()).isEqualTo(2);
+  }
+
+  @Test
+  public void 지연시간증가_limit감소_test() throws Exception {
+    // given: 5ms 응답으로 limit을 충분히 키워둠
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200);
+    runAtLimit(limiter, 5_000_000L, 500);
+    int before = limiter.getLimit();
+
+    // when: 100ms로 느려짐 (DB 지연)
+    runAtLimit(limiter, 100_000_000L, 3);
+    int after = limiter.getLimit();
+    System.out.println("테스트 : " + before + " -> " + after);
+
+    // then
+    assertThat(before).isGreaterThan(20);
+    assertThat(after).isLessThan(before);
+  }
+
+  @Test
+  public void drop_limit감소_test() throws Exception {
+    // given
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 4, 200);
+
+    // when: 커넥션 획득 실패 등 과부하성 실패
+    for (int i = 0; i < 20; i++) {
+      limiter.tryAcquire();
+      limiter.release(5_000_000L, true);
+    }
+
+    // then
+    assertThat(limiter.getLimit()).isEqualTo(90);
+  }
+
+  // limit까지 꽉 채워서 실행했다가 같은 지연시간으로 끝내기를 반복
+  private void runAtLimit(AdaptiveConcurrencyLimiter limiter, long rttNanos, int rounds) {
+    for (int i = 0; i < rounds; i++) {
+      int acquired = 0;
+      while (limiter.tryAcquire()) acquired++;
+      for (int j = 0; j < acquired; j++) limiter.release(rttNanos, false);
+    }
+  }
+}
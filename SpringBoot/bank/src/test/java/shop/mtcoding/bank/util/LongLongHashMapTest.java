@@ -0,0 +1,94 @@
+package shop.mtcoding.bank.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class LongLongHashMapTest {
+
+  @Test
+  public void put_get_test() throws Exception {
+    // given
+    LongLongHashMap map = new LongLongHashMap(16);
+
+    // when: 연속된 계좌번호, resize 발생
+    for (long number = 1_000_000_001L; number <= 1_000_010_000L; number++) {
+      map.put(number, number - 1_000_000_000L);
+    }
+
+    // then
+    assertThat(map.size()).isEqualTo(10_000);
+    assertThat(map.get(1_000_000_001L, -1L)).isEqualTo(1L);
+    assertThat(map.get(1_000_010_000L, -1L)).isEqualTo(10_000L);
+    assertThat(map.get(1_000_010_001L, -1L)).isEqualTo(-1L);
+    assertThat(map.put(1_000_000_001L, 7L)).isFalse(); // 덮어쓰기
+    assertThat(map.get(1_000_000_001L, -1L)).isEqualTo(7L);
+  }
+
+  @Test
+  public void key0_없는키_test() throws Exception {
+    // given
+    LongLongHashMap map = new LongLongHashMap(16);
+    map.put(1L, 10L);
+
+    // when
+    long value = map.get(0L, -1L);
+
+    // then: key 0은 빈 슬롯 표시라 항상 없는 키
+    assertThat(value).isEqualTo(-1L);
+    assertThat(map.containsKey(0L)).isFalse();
+    assertThat(map.remove(0L)).isFalse();
+  }
+
+  @Test
+  public void remove_backward_shift_test() throws Exception {
+    // given: 작은 맵에 넣어서 충돌(연속 구간)을 많이 만든다.
+    LongLongHashMap map = new LongLongHashMap(16, 0.9f);
+    for (long key = 1; key <= 14; key++) {
+      map.put(key, key * 10);
+    }
+
+    // when
+    boolean removed = map.remove(5L);
+    boolean removedAgain = map.remove(5L);
+
+    // then: 지운 자리 뒤의 항목도 계속 찾을 수 있어야 한다.
+    assertThat(removed).isTrue();
+    assertThat(removedAgain).isFalse();
+    assertThat(map.containsKey(5L)).isFalse();
+    for (long key = 1; key <= 14; key++) {
+      if (key != 5) {
+        assertThat(map.get(key, -1L)).isEqualTo(key * 10);
+      }
+    }
+  }
+
+  @Test
+  public void HashMap과_동일_test() throws Exception {
+    // given
+    LongLongHashMap map = new LongLongHashMap(16);
+    Map<Long, Long> expected = new HashMap<>();
+    Random random = new Random(1);
+
+    // when: 무작위 put/remove
+    for (int i = 0; i < 200_000; i++) {
+      long key = 1 + random.nextInt(2_000);
+      if (random.nextInt(3) == 0) {
+        assertThat(map.remove(key)).isEqualTo(expected.remove(key) != null);
+      } else {
+        long value = random.nextLong();
+        assertThat(map.put(key, value)).isEqualTo(expected.put(key, value) == null);
+      }
+    }
+
+    // then
+    assertThat(map.size()).isEqualTo(expected.size());
+    for (long key = 1; key <= 2_000; key++) {
+      assertThat(map.get(key, -1L)).isEqualTo(expected.getOrDefault(key, -1L));
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package shop.mtcoding.bank.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class SlidingWindowCounterTest {
+  private static final long MINUTE = 60_000L;
+
+  @Test
+  public void 윈도우합계_test() throws Exception {
+    // given: 1분 x 60 = 최근 1시간
+    SlidingWindowCounter counter = new SlidingWindowCounter(60, MINUTE);
+    long now = 1_000 * MINUTE;
+
+    // when
+    counter.add(now - 30 * MINUTE, 1000L);
+    counter.add(now - 30 * MINUTE, 500L); // 같은 버킷
+    counter.add(now, 2000L);
+
+    // then
+    assertThat(counter.sum(now)).isEqualTo(3500L);
+  }
+
+  @Test
+  public void 윈도우지나면_빠진다_test() throws Exception {
+    // given
+    SlidingWindowCounter counter = new SlidingWindowCounter(60, MINUTE);
+    long now = 1_000 * MINUTE;
+    counter.add(now, 1000L);
+
+    // when: 59분 뒤까지는 남아있고, 60분 뒤에는 같은 인덱스 버킷을 새로 사용
+    long before = counter.sum(now + 59 * MINUTE);
+    long later = now + 60 * MINUTE;
+    long expired = counter.sum(later);
+    counter.add(later, 300L);
+
+    // then
+    assertThat(before).isEqualTo(1000L);
+    assertThat(expired).isEqualTo(0L);
+    assertThat(counter.sum(later)).isEqualTo(300L);
+  }
+
+  @Test
+  public void 동시추가_test() throws Exception {
+    // given
+    SlidingWindowCounter counter = new SlidingWindowCounter(60, MINUTE);
+    long now = 1_000 * MINUTE;
+
+    // when: 8개 스레드가 같은 버킷에 1씩 10000번
+    Thread[] threads = new Thread[8];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < 10000; j++) counter.add(now, 1L);
+      });
+      threads[i].start();
+    }
+    for (Thread thread : threads) thread.join();
+
+    // then
+    assertThat(counter.sum(now)).isEqualTo(80000L);
+  }
+}
@@ -77,6 +77,44 @@ public class UserControllerTest extends DummyObject{
     resultActions.andExpect(status().isBadRequest());
   }
   
+  @Test
+  public void 회원가입_startup_bench_probe형식_test() throws Exception {
+    // given: startup-bench.sh probe()와 같은 형식 (b + 회차 + epoch초)
+    JoinReqDto joinReqDto = new JoinReqDto();
+    joinReqDto.setUsername("b31760000000");
+    joinReqDto.setPassword("1234");
+    joinReqDto.setEmail("b31760000000@a.io");
+    joinReqDto.setFullname("벤치");
+
+    String requestbody = om.writeValueAsString(joinReqDto);
+
+    // when
+    ResultActions resultActions = mvc.perform(post("/api/join").content(requestbody).contentType(MediaType.APPLICATION_JSON));
+
+    // then
+    resultActions.andExpect(status().isCreated());
+  }
+
+  @Test
+  public void 회원가입_email길이초과_fail_test() throws Exception {
+    // given: user_tb.email 길이(20) 초과 → insert에서 500이 아니라 검증에서 400
+    JoinReqDto joinReqDto = new JoinReqDto();
+    joinReqDto.setUsername("longmail");
+    joinReqDto.setPassword("1234");
+    joinReqDto.setEmail("longmail1234@nate.com");
+    joinReqDto.setFullname("메일");
+
+    String requestbody = om.writeValueAsString(joinReqDto);
+
+    // when
+    ResultActions resultActions = mvc.perform(post("/api/join").content(requestbody).contentType(MediaType.APPLICATION_JSON));
+    String responseBody = resultActions.andReturn().getResponse().getContentAsString();
+    System.out.println("테스트 : " + responseBody);
+
+    // then
+    resultActions.andExpect(status().isBadRequest());
+  }
+
   private void dataSetting() {
     userRepository.save(newUser("ssar", "쌀"));
   }
@@ -0,0 +1,66 @@
+#!/bin/sh
+# 시작 시간 벤치마크: 모드별로 프로세스 실행 ~ 첫 HTTP 응답까지 걸린 시간(time-to-first-request) 측정
+#
+# 사용법
+#   ./gradlew bootJar cdsArchive            (AOT까지 비교하려면: ./gradlew bootJar cdsArchive -Paot)
+#   ./startup-bench.sh [반복횟수]
+#
+# 모드: default / lazy(dev,lazy 프로파일) / cds(AppCDS 아카이브) / cds+lazy / aot(-Paot로 빌드한 경우)
+
+RUNS=${1:-3}
+PORT=8081 # application-dev.yml
+# 회원가입(permitAll): 보안 필터 → 컨트롤러 → 서비스 → DB insert 까지 한 바퀴 돈 첫 응답을 기다린다.
+# (/api/s/** 는 보안 필터에서 401로 끝나므로 서비스/JPA 초기화가 측정에 안 들어간다)
+URL="http://localhost:$PORT/api/join"
+CDS_DIR=build/cds
+JAR=$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -1)
+
+now_ms() {
+  echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# 응답 코드 출력: 000이면 아직 안 떠 있음, 201이면 성공 (실행마다 username을 바꿔서 DB가 남아 있어도 중복 X)
+# username은 @Username(영문/숫자 2-20자), email은 user_tb.email 길이(20) 안에 들어가야 한다. (b + 회차 + epoch초 = 13자)
+probe() {
+  username="b$1$(date +%s)"
+  curl -s -o /dev/null -w "%{http_code}" -X POST "$URL" -H "Content-Type: application/json" \
+    -d "{\"username\":\"$username\",\"password\":\"1234\",\"email\":\"$username@a.io\",\"fullname\":\"벤치\"}"
+}
+
+# $1: 모드 이름, $2: 작업 디렉터리, 나머지: java 실행 인자
+measure() {
+  name=$1; dir=$2; shift 2
+  total=0
+  i=1
+  while [ $i -le $RUNS ]; do
+    start=$(now_ms)
+    (cd "$dir" && exec java "$@" > /dev/null 2>&1) &
+    pid=$!
+    code=$(probe $i)
+    while [ "$code" = "000" ]; do
+      if ! kill -0 $pid 2>/dev/null; then echo "$name: 실행 실패"; return; fi
+      sleep 0.05
+      code=$(probe $i)
+    done
+    elapsed=$(( $(now_ms) - start ))
+    if [ "$code" != "201" ]; then echo "$name: 회원가입 실패 (HTTP $code)"; kill $pid; wait $pid 2>/dev/null; return; fi
+    total=$(( total + elapsed ))
+    kill $pid; wait $pid 2>/dev/null
+    i=$(( i + 1 ))
+  done
+  printf "%-10s %8d ms (평균 %d회)\n" "$name" $(( total / RUNS )) $RUNS
+}
+
+echo "모드       time-to-first-request"
+measure default . -jar "$JAR"
+measure lazy . -jar "$JAR" --spring.profiles.active=dev,lazy
+
+if [ -f "$CDS_DIR/application.jsa" ]; then
+  CDS_JAR=$(basename "$JAR")
+  measure cds "$CDS_DIR" -XX:SharedArchiveFile=application.jsa -jar "$CDS_JAR"
+  measure cds+lazy "$CDS_DIR" -XX:SharedArchiveFile=application.jsa -jar "$CDS_JAR" --spring.profiles.active=dev,lazy
+fi
+
+if unzip -l "$JAR" | grep -q '__BeanFactoryRegistrations'; then
+  measure aot . -Dspring.aot.enabled=true -jar "$JAR"
+fi